@@ -0,0 +1,40 @@
+package com.api.taskmanagement.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
+import com.api.taskmanagement.services.DepartmentService;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DepartmentServiceBenchmark {
+
+  private DepartmentService departmentService;
+
+  @Setup(Level.Trial)
+  public void setUp(SeededApplication application) {
+    departmentService = application.getBean(DepartmentService.class);
+  }
+
+  @Benchmark
+  public List<ListDepartmentDto> findAll() {
+    return departmentService.findAll();
+  }
+}
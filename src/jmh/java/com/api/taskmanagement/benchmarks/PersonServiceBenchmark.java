@@ -0,0 +1,41 @@
+package com.api.taskmanagement.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.api.taskmanagement.dtos.responses.PersonExpensesPageDto;
+import com.api.taskmanagement.services.PersonService;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonServiceBenchmark {
+
+  private PersonService personService;
+
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp(SeededApplication application) {
+    personService = application.getBean(PersonService.class);
+  }
+
+  @Benchmark
+  public PersonExpensesPageDto findAllWithAvgDuration(SeededApplication application) {
+    return personService.findAllWithAvgDuration(SeededApplication.personName(next++ % application.peopleCount()), 0, 20);
+  }
+}
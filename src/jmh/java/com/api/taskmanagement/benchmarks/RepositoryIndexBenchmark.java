@@ -0,0 +1,130 @@
+package com.api.taskmanagement.benchmarks;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.api.taskmanagement.dtos.requests.TaskFilterDto;
+import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
+import com.api.taskmanagement.models.Department;
+import com.api.taskmanagement.models.Task;
+import com.api.taskmanagement.repositories.DepartmentRepository;
+import com.api.taskmanagement.repositories.PersonSearchRepository;
+import com.api.taskmanagement.repositories.TaskRepository;
+import com.api.taskmanagement.repositories.TaskSpecifications;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RepositoryIndexBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class IndexedApplication {
+
+    @Param({"1000000"})
+    public int tasks;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    public SeededApplication application;
+
+    public DepartmentRepository departmentRepository;
+
+    public PersonSearchRepository personSearchRepository;
+
+    public TaskRepository taskRepository;
+
+    public TransactionTemplate transactionTemplate;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      application = new SeededApplication();
+      application.tasks = tasks;
+      application.setUp();
+
+      departmentRepository = application.getBean(DepartmentRepository.class);
+      personSearchRepository = application.getBean(PersonSearchRepository.class);
+      taskRepository = application.getBean(TaskRepository.class);
+      transactionTemplate = new TransactionTemplate(application.getBean(PlatformTransactionManager.class));
+
+      if (!indexed) {
+        dropIndexes(application.getBean(JdbcTemplate.class));
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      application.tearDown();
+    }
+
+    public int next() {
+      return next++;
+    }
+
+    private void dropIndexes(JdbcTemplate jdbcTemplate) {
+      jdbcTemplate.execute("ALTER TABLE departments DROP CONSTRAINT departments_title_key");
+      for (String table : List.of("tasks", "people")) {
+        List<String> foreignKeys = jdbcTemplate.queryForList("SELECT constraint_name FROM information_schema.table_constraints "
+          + "WHERE UPPER(table_name) = ? AND constraint_type = 'FOREIGN KEY'", String.class, table.toUpperCase());
+        foreignKeys.forEach(foreignKey -> jdbcTemplate.execute("ALTER TABLE " + table + " DROP CONSTRAINT " + foreignKey));
+      }
+      for (String index : List.of("tasks_department_finished_deadline_idx", "tasks_person_finished_deadline_idx", "tasks_deadline_idx",
+        "people_department_idx", "people_name_idx", "people_name_trgm_idx")) {
+        jdbcTemplate.execute("DROP INDEX IF EXISTS " + index);
+      }
+    }
+  }
+
+  @Benchmark
+  public Optional<Department> findByTitle(IndexedApplication state) {
+    return state.departmentRepository.findByTitle("Department " + state.next() % state.application.departmentCount());
+  }
+
+  @Benchmark
+  public List<PersonExpensesDto> searchWithDurationAverage(IndexedApplication state) {
+    return state.personSearchRepository.searchWithDurationAverage(SeededApplication.personName(state.next() % state.application.peopleCount()), 20, 0);
+  }
+
+  @Benchmark
+  public List<Task> lockOldestTasksWithoutPerson(IndexedApplication state) {
+    Long departmentId = state.application.departments.get(state.next() % state.application.departmentCount()).getId();
+    return state.transactionTemplate.execute(status -> state.taskRepository.lockOldestTasksWithoutPerson(departmentId, PageRequest.of(0, 1)));
+  }
+
+  @Benchmark
+  public List<Task> findOldestTasksWithoutPerson(IndexedApplication state) {
+    return state.transactionTemplate.execute(status -> state.taskRepository.findOldestTasksWithoutPerson(PageRequest.of(0, 10)));
+  }
+
+  @Benchmark
+  public List<Task> findAllMatchingDepartmentAndFinished(IndexedApplication state) {
+    Long departmentId = state.application.departments.get(state.next() % state.application.departmentCount()).getId();
+    TaskFilterDto filter = new TaskFilterDto(departmentId, null, false, Date.valueOf("2022-12-01"), Date.valueOf("2022-12-31"), null);
+    return state.taskRepository.findAllLimited(TaskSpecifications.matching(filter), PageRequest.of(0, 20, Sort.by("deadline", "id")));
+  }
+}
@@ -0,0 +1,117 @@
+package com.api.taskmanagement.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.api.taskmanagement.TaskmanagementApplication;
+import com.api.taskmanagement.dtos.requests.TaskDto;
+import com.api.taskmanagement.dtos.responses.DepartmentResponseDto;
+import com.api.taskmanagement.models.Department;
+import com.api.taskmanagement.services.DepartmentService;
+import com.api.taskmanagement.services.TaskService;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+public class RequestExecutionBenchmark {
+
+  private static final int TASKS = 10000;
+
+  private static final int CHUNK_SIZE = 1000;
+
+  @State(Scope.Benchmark)
+  public static class ServingApplication {
+
+    @Param({"platform", "virtual"})
+    public String threadsMode;
+
+    @Param({"20"})
+    public int poolSize;
+
+    public ConfigurableApplicationContext context;
+
+    public HttpClient client;
+
+    public String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      if ("virtual".equals(threadsMode) && Runtime.version().feature() < 21) {
+        throw new IllegalStateException("The virtual threads mode requires Java 21 or newer");
+      }
+      context = new SpringApplicationBuilder(TaskmanagementApplication.class)
+        .web(WebApplicationType.SERVLET)
+        .run("--server.port=0",
+          "--app.threads.mode=" + threadsMode,
+          "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+          "--spring.datasource.url=jdbc:h2:mem:requests;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+          "--spring.datasource.driver-class-name=org.h2.Driver",
+          "--spring.jpa.show-sql=false",
+          "--spring.jpa.properties.hibernate.generate_statistics=false",
+          "--logging.level.root=WARN");
+      seed();
+
+      client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+      baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      context.close();
+    }
+
+    private void seed() {
+      DepartmentResponseDto department = context.getBean(DepartmentService.class).create(Department.builder().title("Requests").build());
+      TaskService taskService = context.getBean(TaskService.class);
+      for (int chunkStart = 0; chunkStart < TASKS; chunkStart += CHUNK_SIZE) {
+        List<TaskDto> chunk = IntStream.range(chunkStart, Math.min(chunkStart + CHUNK_SIZE, TASKS))
+          .mapToObj(i -> new TaskDto("Task " + i, "A Task", Date.valueOf("2022-12-30"), 1 + i % 8, false, department.getId(), null))
+          .toList();
+        taskService.createBatch(chunk);
+      }
+    }
+
+    public String get(String path) throws IOException, InterruptedException {
+      HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+      return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+  }
+
+  @Benchmark
+  public String page(ServingApplication application) throws IOException, InterruptedException {
+    return application.get("/tasks/page?size=20&expand=department");
+  }
+
+  @Benchmark
+  public String pending(ServingApplication application) throws IOException, InterruptedException {
+    return application.get("/tasks/pending?limit=10");
+  }
+}
@@ -0,0 +1,183 @@
+package com.api.taskmanagement.benchmarks;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.api.taskmanagement.TaskmanagementApplication;
+import com.api.taskmanagement.models.*;
+import com.api.taskmanagement.repositories.*;
+
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+  private static final int CHUNK_SIZE = 1000;
+
+  private static final List<String> FIRST_NAMES = List.of("Ana", "Bruno", "Carla", "Daniel", "Eduardo", "Fernanda", "Gabriel",
+    "Helena", "Igor", "Juliana", "Karina", "Lucas", "Marina", "Nicolas", "Otavio", "Patricia", "Rafael", "Sabrina", "Thiago",
+    "Vanessa", "Alan", "Beatriz", "Caio", "Debora", "Enzo", "Flavia", "Gustavo", "Heitor", "Isabela", "Joao", "Larissa",
+    "Mateus", "Natalia", "Paulo", "Renata", "Samuel", "Tatiana", "Vitor", "Yasmin", "Wagner");
+
+  private static final List<String> LAST_NAMES = List.of("Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves",
+    "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira",
+    "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques", "Machado", "Mendes", "Freitas",
+    "Cardoso", "Ramos", "Goncalves", "Santana", "Teixeira", "Cavalcante", "Moura", "Correia", "Pinto", "Araujo");
+
+  @Param({"1000", "10000", "100000"})
+  public int tasks;
+
+  public ConfigurableApplicationContext context;
+
+  public List<Department> departments;
+
+  public List<Person> people;
+
+  public List<Long> taskIds;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    String postgresUrl = System.getenv("BENCHMARK_POSTGRES_URL");
+    context = new SpringApplicationBuilder(TaskmanagementApplication.class)
+      .web(WebApplicationType.NONE)
+      .run(postgresUrl == null ? h2Arguments() : postgresArguments(postgresUrl));
+    seed();
+    if (postgresUrl != null) {
+      // Flushes the GIN pending lists filled by the seed and collects statistics, as autovacuum does on a live database
+      getBean(JdbcTemplate.class).execute("VACUUM ANALYZE");
+    }
+  }
+
+  // First name and two surnames, so the 64,000 combinations share trigrams the way real names do instead of all looking alike
+  public static String personName(int index) {
+    return FIRST_NAMES.get(index % FIRST_NAMES.size()) + " " + LAST_NAMES.get(index / FIRST_NAMES.size() % LAST_NAMES.size()) + " "
+      + LAST_NAMES.get(index / (FIRST_NAMES.size() * LAST_NAMES.size()) % LAST_NAMES.size());
+  }
+
+  private String[] h2Arguments() {
+    return new String[] {"--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+      "--spring.datasource.driver-class-name=org.h2.Driver",
+      "--spring.jpa.show-sql=false",
+      "--spring.jpa.properties.hibernate.generate_statistics=false",
+      "--logging.level.root=WARN"};
+  }
+
+  // Every trial starts from an empty schema that Flyway migrates, so the indexes are the ones production gets.
+  private String[] postgresArguments(String url) {
+    String username = System.getenv().getOrDefault("BENCHMARK_POSTGRES_USERNAME", "postgres");
+    String password = System.getenv().getOrDefault("BENCHMARK_POSTGRES_PASSWORD", "");
+    try (Connection connection = DriverManager.getConnection(url, username, password);
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA public CASCADE");
+      statement.execute("CREATE SCHEMA public");
+    } catch (SQLException e) {
+      throw new IllegalStateException("Could not reset the benchmark database", e);
+    }
+    return new String[] {"--spring.datasource.url=" + url,
+      "--spring.datasource.driver-class-name=org.postgresql.Driver",
+      "--spring.datasource.username=" + username,
+      "--spring.datasource.password=" + password,
+      "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+      "--spring.jpa.hibernate.ddl-auto=validate",
+      "--spring.flyway.enabled=true",
+      "--spring.jpa.defer-datasource-initialization=false",
+      "--spring.jpa.show-sql=false",
+      "--spring.jpa.properties.hibernate.generate_statistics=false",
+      "--logging.level.root=WARN"};
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  public <T> T getBean(Class<T> type) {
+    return context.getBean(type);
+  }
+
+  public int departmentCount() {
+    return Math.max(1, tasks / 100);
+  }
+
+  public int peopleCount() {
+    return Math.max(1, tasks / 10);
+  }
+
+  private void seed() {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(getBean(PlatformTransactionManager.class));
+    DepartmentRepository departmentRepository = getBean(DepartmentRepository.class);
+    PersonRepository personRepository = getBean(PersonRepository.class);
+    TaskRepository taskRepository = getBean(TaskRepository.class);
+
+    departments = transactionTemplate.execute(status -> departmentRepository.saveAll(IntStream.range(0, departmentCount())
+      .mapToObj(i -> Department.builder()
+        .title("Department " + i)
+        .peopleCount(shareOf(peopleCount(), i))
+        .tasksCount(shareOf(tasks, i))
+        .build())
+      .toList()));
+
+    long[] taskCounts = new long[peopleCount()];
+    long[] durationSums = new long[peopleCount()];
+    for (int index = 0; index < tasks; index += 2) {
+      taskCounts[index % peopleCount()]++;
+      durationSums[index % peopleCount()] += durationOf(index);
+    }
+
+    people = transactionTemplate.execute(status -> personRepository.saveAll(IntStream.range(0, peopleCount())
+      .mapToObj(i -> Person.builder()
+        .name(personName(i))
+        .department(departments.get(i % departmentCount()))
+        .taskCount(taskCounts[i])
+        .durationSum(durationSums[i])
+        .build())
+      .toList()));
+
+    taskIds = new ArrayList<>(tasks);
+    for (int chunkStart = 0; chunkStart < tasks; chunkStart += CHUNK_SIZE) {
+      int start = chunkStart;
+      int end = Math.min(start + CHUNK_SIZE, tasks);
+      List<Task> chunk = transactionTemplate.execute(status -> taskRepository.saveAll(IntStream.range(start, end)
+        .mapToObj(this::createTask)
+        .toList()));
+      chunk.forEach(task -> taskIds.add(task.getId()));
+    }
+  }
+
+  private long shareOf(int total, int departmentIndex) {
+    return total / departmentCount() + (departmentIndex < total % departmentCount() ? 1 : 0);
+  }
+
+  private int durationOf(int index) {
+    return 1 + index % 8;
+  }
+
+  private Task createTask(int index) {
+    return Task.builder()
+      .title("Task " + index)
+      .description("A Task")
+      .deadline(Date.valueOf("2022-12-30"))
+      .duration(durationOf(index))
+      .finished(false)
+      .department(departments.get(index % departmentCount()))
+      .person(index % 2 == 0 ? people.get(index % peopleCount()) : null)
+      .build();
+  }
+}
@@ -0,0 +1,74 @@
+package com.api.taskmanagement.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.api.taskmanagement.models.*;
+import com.api.taskmanagement.repositories.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+  private ObjectMapper objectMapper;
+
+  private Department department;
+
+  private List<Person> people;
+
+  private List<Task> tasks;
+
+  @Setup(Level.Trial)
+  public void setUp(SeededApplication application) {
+    objectMapper = application.getBean(ObjectMapper.class);
+    TransactionTemplate transactionTemplate = new TransactionTemplate(application.getBean(PlatformTransactionManager.class));
+    DepartmentRepository departmentRepository = application.getBean(DepartmentRepository.class);
+
+    transactionTemplate.executeWithoutResult(status -> {
+      department = departmentRepository.findById(application.departments.get(0).getId()).orElseThrow();
+      people = department.getPeople();
+      tasks = department.getTasks();
+      people.forEach(person -> person.getTasks().size());
+      tasks.forEach(task -> {
+        if (task.getPerson() != null) {
+          task.getPerson().getName();
+        }
+      });
+    });
+  }
+
+  @Benchmark
+  public String serializeDepartment() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(department);
+  }
+
+  @Benchmark
+  public String serializePeople() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(people);
+  }
+
+  @Benchmark
+  public String serializeTasks() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(tasks);
+  }
+}
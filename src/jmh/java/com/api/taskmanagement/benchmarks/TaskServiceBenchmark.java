@@ -0,0 +1,44 @@
+package com.api.taskmanagement.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.services.TaskService;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+  private TaskService taskService;
+
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp(SeededApplication application) {
+    taskService = application.getBean(TaskService.class);
+  }
+
+  @Benchmark
+  public TaskResponseDto allocatePerson(SeededApplication application) {
+    int index = next++ % application.tasks;
+    Long taskId = application.taskIds.get(index);
+    Long personId = application.people.get((index + application.departmentCount()) % application.peopleCount()).getId();
+    return taskService.allocatePerson(taskId, personId);
+  }
+}
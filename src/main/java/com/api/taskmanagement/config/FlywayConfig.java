@@ -0,0 +1,18 @@
+package com.api.taskmanagement.config;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+  // The migrations build indexes CONCURRENTLY, which waits for every open transaction. With the default
+  // transactional advisory lock Flyway keeps one open itself and the migration never finishes.
+  @Bean
+  public FlywayConfigurationCustomizer sessionLockFlywayCustomizer() {
+    return configuration -> configuration.configuration(Map.of("flyway.postgresql.transactional.lock", "false"));
+  }
+}
@@ -0,0 +1,179 @@
+package com.api.taskmanagement.config;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  public static final String REPLAYED_COUNTER = "taskmanagement.idempotency.replayed";
+
+  private final Cache<String, StoredResponse> responses;
+
+  private final Counter replayed;
+
+  public IdempotencyFilter(MeterRegistry meterRegistry, Environment environment) {
+    this.responses = Caffeine.newBuilder()
+      .expireAfterWrite(Duration.ofMinutes(environment.getProperty("app.idempotency.ttl-minutes", Long.class, 1440L)))
+      .maximumSize(environment.getProperty("app.idempotency.max-keys", Long.class, 10000L))
+      .build();
+    this.replayed = meterRegistry.counter(REPLAYED_COUNTER);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String key = keyOf(request);
+    byte[] requestBody = request.getInputStream().readAllBytes();
+    String fingerprint = fingerprint(requestBody);
+
+    StoredResponse inFlight = new StoredResponse(fingerprint, 0, null, null);
+    StoredResponse stored = responses.asMap().putIfAbsent(key, inFlight);
+    if (stored != null && !stored.getFingerprint().equals(fingerprint)) {
+      response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), "This Idempotency-Key was already used with a different request body");
+      return;
+    }
+    if (stored != null && stored.getBody() == null) {
+      response.sendError(HttpStatus.CONFLICT.value(), "A request with this Idempotency-Key is still in progress");
+      return;
+    }
+    if (stored != null) {
+      replayed.increment();
+      response.setStatus(stored.getStatus());
+      response.setContentType(stored.getContentType());
+      response.setHeader(REPLAYED_HEADER, "true");
+      response.getOutputStream().write(stored.getBody());
+      return;
+    }
+
+    ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+    boolean completed = false;
+    try {
+      filterChain.doFilter(new CachedBodyRequest(request, requestBody), responseWrapper);
+      if (HttpStatusCode.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+        responses.put(key, new StoredResponse(fingerprint, responseWrapper.getStatus(), responseWrapper.getContentType(),
+          responseWrapper.getContentAsByteArray()));
+        completed = true;
+      }
+    } finally {
+      if (!completed) {
+        responses.asMap().remove(key, inFlight);
+      }
+      responseWrapper.copyBodyToResponse();
+    }
+  }
+
+  // Keys are chosen by the clients, so two callers may send the same one; each caller only replays its own responses.
+  // Behind a proxy the remote address is the proxy's unless server.forward-headers-strategy resolves the client address.
+  private String keyOf(HttpServletRequest request) {
+    Principal principal = request.getUserPrincipal();
+    String client = principal != null ? "user:" + principal.getName() : "address:" + request.getRemoteAddr();
+    String uri = request.getQueryString() != null ? request.getRequestURI() + "?" + request.getQueryString() : request.getRequestURI();
+    return String.join("\n", client, request.getMethod(), uri, request.getHeader(IDEMPOTENCY_KEY_HEADER));
+  }
+
+  private String fingerprint(byte[] requestBody) {
+    try {
+      return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(requestBody));
+    } catch (NoSuchAlgorithmException e) {
+      throw new Error("Could not fingerprint the request body");
+    }
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  private static class StoredResponse {
+    private final String fingerprint;
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+  }
+
+  private static class CachedBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] body;
+
+    private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream input = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return input.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+          return input.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return input.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          throw new UnsupportedOperationException();
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      String encoding = getCharacterEncoding();
+      return new BufferedReader(new InputStreamReader(getInputStream(),
+        encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.api.taskmanagement.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.api.taskmanagement.services.OutboxService;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayConfig {
+
+  private final OutboxService outboxService;
+
+  private final int batchSize;
+
+  public OutboxRelayConfig(OutboxService outboxService, Environment environment) {
+    this.outboxService = outboxService;
+    this.batchSize = environment.getProperty("app.outbox.batch-size", Integer.class, 100);
+  }
+
+  @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:1000}")
+  public void relay() {
+    int relayed;
+    do {
+      relayed = outboxService.relayBatch(batchSize);
+    } while (relayed == batchSize);
+    outboxService.refreshPending();
+  }
+}
@@ -0,0 +1,35 @@
+package com.api.taskmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import jakarta.annotation.PreDestroy;
+
+@Configuration
+public class ReactiveReadConfig {
+
+  private final ConnectionPool connectionPool;
+
+  public ReactiveReadConfig(@Value("${spring.r2dbc.url}") String url, @Value("${spring.r2dbc.username:}") String username,
+      @Value("${spring.r2dbc.password:}") String password, @Value("${spring.r2dbc.pool.max-size:10}") int maxSize) {
+    this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+      .builder(ConnectionFactoryBuilder.withUrl(url).username(username).password(password).build())
+      .maxSize(maxSize)
+      .build());
+  }
+
+  @Bean
+  public DatabaseClient databaseClient() {
+    return DatabaseClient.create(connectionPool);
+  }
+
+  @PreDestroy
+  public void close() {
+    connectionPool.dispose();
+  }
+}
@@ -0,0 +1,43 @@
+package com.api.taskmanagement.config;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+  public static final String STATEMENTS_SUMMARY = "taskmanagement.http.sql.statements";
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (handler instanceof HandlerMethod handlerMethod) {
+      SqlRequestContext.start(handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    SqlRequestContext.Request sqlRequest = SqlRequestContext.current();
+    if (sqlRequest != null) {
+      DistributionSummary.builder(STATEMENTS_SUMMARY)
+        .tag("handler", sqlRequest.getHandler())
+        .register(meterRegistry)
+        .record(sqlRequest.getStatements());
+    }
+    SqlRequestContext.clear();
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    SqlRequestContext.clear();
+  }
+}
@@ -0,0 +1,45 @@
+package com.api.taskmanagement.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Configuration
+@RequiredArgsConstructor
+public class SqlMonitoringConfig implements WebMvcConfigurer {
+
+  private final MeterRegistry meterRegistry;
+
+  @Bean
+  public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(Environment environment) {
+    SqlStatementListener listener = new SqlStatementListener(
+      environment.getProperty("app.sql.slow-threshold-ms", Long.class, 200L),
+      environment.getProperty("app.sql.budget", Integer.class, 0),
+      environment.getProperty("app.sql.budget-mode", "warn"));
+
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+          return ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(listener).build();
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new SqlBudgetInterceptor(meterRegistry));
+  }
+}
@@ -0,0 +1,44 @@
+package com.api.taskmanagement.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+public final class SqlRequestContext {
+
+  private static final ThreadLocal<Request> CURRENT = new ThreadLocal<>();
+
+  private SqlRequestContext() {
+  }
+
+  public static void start(String handler) {
+    CURRENT.set(new Request(handler));
+  }
+
+  public static Request current() {
+    return CURRENT.get();
+  }
+
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class Request {
+    private final String handler;
+
+    private int statements;
+
+    private boolean overBudget;
+
+    public int increment() {
+      return ++statements;
+    }
+
+    public boolean markOverBudget() {
+      boolean first = !overBudget;
+      overBudget = true;
+      return first;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.api.taskmanagement.config;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementListener implements QueryExecutionListener {
+
+  public static final String MODE_FAIL = "fail";
+
+  private final long slowThresholdMs;
+
+  private final int budget;
+
+  private final String budgetMode;
+
+  private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    SqlRequestContext.Request request = SqlRequestContext.current();
+    String handler = request == null ? "none" : request.getHandler();
+
+    if (execInfo.getElapsedTime() >= slowThresholdMs) {
+      log.warn("Slow query in {} took {} ms: {}", handler, execInfo.getElapsedTime(),
+        logEntryCreator.getLogEntry(execInfo, queryInfoList, false, false, false));
+    }
+
+    if (request == null || budget <= 0 || request.increment() <= budget || !request.markOverBudget()) {
+      return;
+    }
+
+    String message = String.format("%s exceeded the SQL budget of %d statements", handler, budget);
+    if (MODE_FAIL.equals(budgetMode)) {
+      throw new Error(message);
+    }
+    log.warn(message);
+  }
+}
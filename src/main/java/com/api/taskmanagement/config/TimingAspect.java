@@ -0,0 +1,64 @@
+package com.api.taskmanagement.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TimingAspect {
+
+  public static final String SERVICE_TIMER = "taskmanagement.service";
+
+  public static final String REPOSITORY_TIMER = "taskmanagement.repository";
+
+  private static final String REPOSITORIES_PACKAGE = "com.api.taskmanagement.repositories";
+
+  private final MeterRegistry meterRegistry;
+
+  @Around("execution(public !reactor.core.publisher.Flux com.api.taskmanagement.services.*Service.*(..))")
+  public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(SERVICE_TIMER, ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName(), joinPoint);
+  }
+
+  @Around("execution(* org.springframework.data.repository.Repository+.*(..)) && this(org.springframework.data.repository.Repository)")
+  public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(REPOSITORY_TIMER, repositoryName(joinPoint), joinPoint);
+  }
+
+  private Object time(String name, String type, ProceedingJoinPoint joinPoint) throws Throwable {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "success";
+    String exception = "none";
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      outcome = "error";
+      exception = e.getClass().getSimpleName();
+      throw e;
+    } finally {
+      sample.stop(Timer.builder(name)
+        .tag("class", type)
+        .tag("method", joinPoint.getSignature().getName())
+        .tag("outcome", outcome)
+        .tag("exception", exception)
+        .register(meterRegistry));
+    }
+  }
+
+  private String repositoryName(ProceedingJoinPoint joinPoint) {
+    for (Class<?> type : ClassUtils.getAllInterfacesAsSet(joinPoint.getThis())) {
+      if (type.getPackageName().equals(REPOSITORIES_PACKAGE)) {
+        return type.getSimpleName();
+      }
+    }
+    return joinPoint.getSignature().getDeclaringType().getSimpleName();
+  }
+}
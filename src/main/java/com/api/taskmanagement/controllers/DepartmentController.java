@@ -13,8 +13,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.api.taskmanagement.dtos.requests.DepartmentDto;
+import com.api.taskmanagement.dtos.responses.DepartmentResponseDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
 import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
 import com.api.taskmanagement.models.Department;
 import com.api.taskmanagement.services.DepartmentService;
@@ -30,7 +33,7 @@ public class DepartmentController {
   private final DepartmentService departmentService;
 
   @PostMapping
-  public ResponseEntity<Department> create(@RequestBody Department department) {
+  public ResponseEntity<DepartmentResponseDto> create(@RequestBody Department department) {
     return ResponseEntity.status(HttpStatus.CREATED).body(departmentService.create(department));
   }
 
@@ -40,12 +43,16 @@ public class DepartmentController {
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<Optional<Department>> show(@PathVariable("id") Long id) {
+  public ResponseEntity<Optional<DepartmentResponseDto>> show(@PathVariable("id") Long id, WebRequest request) {
+    Optional<EntityVersionDto> version = departmentService.findVersionById(id);
+    if (version.isPresent() && request.checkNotModified(version.get().getVersion().toString(), version.get().getUpdated_at().toEpochMilli())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
     return ResponseEntity.status(HttpStatus.OK).body(departmentService.findById(id));
   }
 
   @PutMapping("/{id}")
-  public ResponseEntity<Department> update(@PathVariable("id") Long id, @RequestBody @Valid DepartmentDto departmentDto) {
+  public ResponseEntity<DepartmentResponseDto> update(@PathVariable("id") Long id, @RequestBody @Valid DepartmentDto departmentDto) {
     return ResponseEntity.status(HttpStatus.OK).body(departmentService.update(id, departmentDto.getTitle()));
   }
 
@@ -14,11 +14,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.api.taskmanagement.dtos.requests.PersonDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
 import com.api.taskmanagement.dtos.responses.ListPeopleDto;
-import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
-import com.api.taskmanagement.models.Person;
+import com.api.taskmanagement.dtos.responses.PersonExpensesPageDto;
+import com.api.taskmanagement.dtos.responses.PersonResponseDto;
 import com.api.taskmanagement.services.PersonService;
 
 import lombok.RequiredArgsConstructor;
@@ -31,7 +33,7 @@ public class PersonController {
   private final PersonService personService;
 
   @PostMapping
-  public ResponseEntity<Person> create(@RequestBody PersonDto personDto) {
+  public ResponseEntity<PersonResponseDto> create(@RequestBody PersonDto personDto) {
     return ResponseEntity.status(HttpStatus.CREATED).body(personService.create(personDto));
   } 
 
@@ -41,17 +43,22 @@ public class PersonController {
   } 
 
   @GetMapping("/expenses")
-  public ResponseEntity<List<PersonExpensesDto>> listExpenses(@RequestParam String name) {
-    return ResponseEntity.status(HttpStatus.OK).body(personService.findAllWithAvgDuration(name));
+  public ResponseEntity<PersonExpensesPageDto> listExpenses(@RequestParam String name, @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(personService.findAllWithAvgDuration(name, page, size));
   } 
 
   @GetMapping("/{id}")
-  public ResponseEntity<Optional<Person>> show(@PathVariable("id") Long id) {
+  public ResponseEntity<Optional<PersonResponseDto>> show(@PathVariable("id") Long id, WebRequest request) {
+    Optional<EntityVersionDto> version = personService.findVersionById(id);
+    if (version.isPresent() && request.checkNotModified(version.get().getVersion().toString(), version.get().getUpdated_at().toEpochMilli())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
     return ResponseEntity.status(HttpStatus.OK).body(personService.findById(id));
   } 
 
   @PutMapping("/{id}")
-  public ResponseEntity<Person> update(@PathVariable("id") Long id, @RequestBody PersonDto personDto) {
+  public ResponseEntity<PersonResponseDto> update(@PathVariable("id") Long id, @RequestBody PersonDto personDto) {
     return ResponseEntity.status(HttpStatus.OK).body(personService.update(id, personDto));
   } 
 
@@ -0,0 +1,38 @@
+package com.api.taskmanagement.controllers;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
+import com.api.taskmanagement.dtos.responses.ListPeopleDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.services.ReactiveReadService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping(value = "/reactive", produces = MediaType.APPLICATION_NDJSON_VALUE)
+@RequiredArgsConstructor
+public class ReactiveReadController {
+
+  private final ReactiveReadService reactiveReadService;
+
+  @GetMapping("/tasks/pending")
+  public Flux<TaskResponseDto> pendingTasks(@RequestParam(defaultValue = "3") int limit) {
+    return reactiveReadService.findOldestTasksWithoutPerson(limit);
+  }
+
+  @GetMapping("/people")
+  public Flux<ListPeopleDto> people() {
+    return reactiveReadService.findAllPeople();
+  }
+
+  @GetMapping("/departments")
+  public Flux<ListDepartmentDto> departments() {
+    return reactiveReadService.findAllDepartments();
+  }
+}
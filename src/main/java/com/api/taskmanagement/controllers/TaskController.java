@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,13 +13,28 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.api.taskmanagement.dtos.requests.AllocatePersonTaskDto;
+import com.api.taskmanagement.dtos.requests.TaskAllocationDto;
 import com.api.taskmanagement.dtos.requests.TaskDto;
-import com.api.taskmanagement.models.Task;
+import com.api.taskmanagement.dtos.requests.TaskFilterDto;
+import com.api.taskmanagement.dtos.requests.TaskFinishDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
+import com.api.taskmanagement.dtos.responses.TaskAllocationResultDto;
+import com.api.taskmanagement.dtos.responses.TaskFinishResultDto;
+import com.api.taskmanagement.dtos.responses.TaskPageDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.dtos.responses.TaskSearchPageDto;
+import com.api.taskmanagement.services.TaskEventService;
+import com.api.taskmanagement.services.TaskExportService;
 import com.api.taskmanagement.services.TaskService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -28,33 +44,90 @@ public class TaskController {
   
   private final TaskService taskService;
 
+  private final TaskExportService taskExportService;
+
+  private final TaskEventService taskEventService;
+
   @PostMapping
-  public ResponseEntity<Task> create(@RequestBody TaskDto taskDto) {
+  public ResponseEntity<TaskResponseDto> create(@RequestBody TaskDto taskDto) {
     return ResponseEntity.status(HttpStatus.CREATED).body(taskService.create(taskDto));
   }
 
+  @PostMapping("/batch")
+  public ResponseEntity<List<TaskResponseDto>> createBatch(@RequestBody List<TaskDto> taskDtos) {
+    return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createBatch(taskDtos));
+  }
+
   @GetMapping
-  public ResponseEntity<List<Task>> list() {
-    return ResponseEntity.status(HttpStatus.OK).body(taskService.findAll());
+  public ResponseEntity<List<TaskResponseDto>> list(TaskFilterDto filter, @RequestParam(required = false) Integer page,
+      @RequestParam(required = false) Integer size, @RequestParam(required = false) List<String> expand) {
+    return ResponseEntity.status(HttpStatus.OK).body(taskService.findAll(filter, page, size, expand));
+  }
+
+  @GetMapping("/page")
+  public ResponseEntity<TaskPageDto> page(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size,
+      @RequestParam(required = false) List<String> expand) {
+    return ResponseEntity.status(HttpStatus.OK).body(taskService.findPage(cursor, size, expand));
+  }
+
+  @GetMapping("/search")
+  public ResponseEntity<TaskSearchPageDto> search(@RequestParam String q, @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(taskService.search(q, page, size));
+  }
+
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> export() {
+    return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_NDJSON).body(taskExportService::exportTo);
+  }
+
+  @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter events(@RequestParam(required = false) Long department_id, @RequestParam(required = false) Long person_id) {
+    return taskEventService.subscribe(department_id, person_id);
   }
 
   @GetMapping("/pending")
-  public ResponseEntity<List<Task>> pendingTasks() {
-    return ResponseEntity.status(HttpStatus.OK).body(taskService.findThreeOldestTasksWithoutPerson());
+  public ResponseEntity<List<TaskResponseDto>> pendingTasks(@RequestParam(defaultValue = "3") int limit,
+      @RequestParam(required = false) List<String> expand) {
+    return ResponseEntity.status(HttpStatus.OK).body(taskService.findOldestTasksWithoutPerson(limit, expand));
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<Optional<Task>> show(@PathVariable("id") Long id) {
-    return ResponseEntity.status(HttpStatus.OK).body(taskService.findById(id));
+  public ResponseEntity<Optional<TaskResponseDto>> show(@PathVariable("id") Long id, @RequestParam(required = false) List<String> expand,
+      WebRequest request) {
+    if (expand == null || expand.isEmpty()) {
+      Optional<EntityVersionDto> version = taskService.findVersionById(id);
+      if (version.isPresent() && request.checkNotModified(version.get().getVersion().toString(), version.get().getUpdated_at().toEpochMilli())) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+      }
+    }
+    return ResponseEntity.status(HttpStatus.OK).body(taskService.findById(id, expand));
+  }
+
+  @PutMapping("/allocate/batch")
+  public ResponseEntity<List<TaskAllocationResultDto>> allocateBatch(@RequestBody List<TaskAllocationDto> allocations) {
+    return ResponseEntity.status(HttpStatus.OK).body(taskService.allocateBatch(allocations));
   }
 
   @PutMapping("/allocate/{id}")
-  public ResponseEntity<Task> allocatePerson(@PathVariable("id") Long id, @RequestBody AllocatePersonTaskDto allocatePersonTaskDto) {
+  public ResponseEntity<TaskResponseDto> allocatePerson(@PathVariable("id") Long id, @RequestBody AllocatePersonTaskDto allocatePersonTaskDto) {
     return ResponseEntity.status(HttpStatus.OK).body(taskService.allocatePerson(id, allocatePersonTaskDto.getPerson_id()));
   }
 
+  @PostMapping("/claim")
+  public ResponseEntity<TaskResponseDto> claim(@RequestBody AllocatePersonTaskDto allocatePersonTaskDto) {
+    return taskService.claim(allocatePersonTaskDto.getPerson_id())
+      .map(task -> ResponseEntity.status(HttpStatus.OK).body(task))
+      .orElseGet(() -> ResponseEntity.status(HttpStatus.NO_CONTENT).build());
+  }
+
+  @PutMapping("/finish")
+  public ResponseEntity<TaskFinishResultDto> finishAll(@RequestBody @Valid TaskFinishDto taskFinishDto) {
+    return ResponseEntity.status(HttpStatus.OK).body(taskService.finishAll(taskFinishDto));
+  }
+
   @PutMapping("/finish/{id}")
-  public ResponseEntity<Task> finishTask(@PathVariable("id") Long id) {
+  public ResponseEntity<TaskResponseDto> finishTask(@PathVariable("id") Long id) {
     return ResponseEntity.status(HttpStatus.OK).body(taskService.finishTask(id));
   }
 
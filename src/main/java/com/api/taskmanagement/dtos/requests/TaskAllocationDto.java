@@ -0,0 +1,17 @@
+package com.api.taskmanagement.dtos.requests;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskAllocationDto {
+  @NotBlank
+  private Long task_id;
+
+  @NotBlank
+  private Long person_id;
+}
@@ -0,0 +1,24 @@
+package com.api.taskmanagement.dtos.requests;
+
+import java.sql.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskFilterDto {
+  private Long department_id;
+
+  private Long person_id;
+
+  private Boolean finished;
+
+  private Date deadline_from;
+
+  private Date deadline_to;
+
+  private String sort;
+}
@@ -0,0 +1,30 @@
+package com.api.taskmanagement.dtos.requests;
+
+import java.sql.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import jakarta.validation.constraints.Size;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskFinishDto {
+  // Every id is one bind parameter of the IN list, so larger sets go through the department, person and deadline filters
+  public static final int MAX_IDS = 1000;
+
+  @Size(max = MAX_IDS)
+  private List<Long> ids;
+
+  private Long department_id;
+
+  private Long person_id;
+
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+  private Date deadline_before;
+}
@@ -0,0 +1,12 @@
+package com.api.taskmanagement.dtos.responses;
+
+import lombok.Data;
+
+@Data
+public class DepartmentEventDto {
+  private Long id;
+
+  public DepartmentEventDto(Long id) {
+    this.id = id;
+  }
+}
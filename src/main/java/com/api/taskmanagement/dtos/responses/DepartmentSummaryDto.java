@@ -0,0 +1,15 @@
+package com.api.taskmanagement.dtos.responses;
+
+import lombok.Data;
+
+@Data
+public class DepartmentSummaryDto {
+  private Long id;
+
+  private String title;
+
+  public DepartmentSummaryDto(Long id, String title) {
+    this.id = id;
+    this.title = title;
+  }
+}
@@ -0,0 +1,17 @@
+package com.api.taskmanagement.dtos.responses;
+
+import java.time.Instant;
+
+import lombok.Data;
+
+@Data
+public class EntityVersionDto {
+  private Long version;
+
+  private Instant updated_at;
+
+  public EntityVersionDto(Long version, Instant updated_at) {
+    this.version = version;
+    this.updated_at = updated_at;
+  }
+}
@@ -0,0 +1,17 @@
+package com.api.taskmanagement.dtos.responses;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class PersonExpensesPageDto {
+  private List<PersonExpensesDto> content;
+
+  private Integer next_page;
+
+  public PersonExpensesPageDto(List<PersonExpensesDto> content, Integer next_page) {
+    this.content = content;
+    this.next_page = next_page;
+  }
+}
@@ -0,0 +1,18 @@
+package com.api.taskmanagement.dtos.responses;
+
+import lombok.Data;
+
+@Data
+public class PersonResponseDto {
+  private Long id;
+
+  private String name;
+
+  private Long department_id;
+
+  public PersonResponseDto(Long id, String name, Long department_id) {
+    this.id = id;
+    this.name = name;
+    this.department_id = department_id;
+  }
+}
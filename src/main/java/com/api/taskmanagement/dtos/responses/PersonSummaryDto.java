@@ -0,0 +1,15 @@
+package com.api.taskmanagement.dtos.responses;
+
+import lombok.Data;
+
+@Data
+public class PersonSummaryDto {
+  private Long id;
+
+  private String name;
+
+  public PersonSummaryDto(Long id, String name) {
+    this.id = id;
+    this.name = name;
+  }
+}
@@ -0,0 +1,25 @@
+package com.api.taskmanagement.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+
+@Data
+public class TaskAllocationResultDto {
+  private Long task_id;
+
+  private Long person_id;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private TaskResponseDto task;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String error;
+
+  public TaskAllocationResultDto(Long task_id, Long person_id, TaskResponseDto task, String error) {
+    this.task_id = task_id;
+    this.person_id = person_id;
+    this.task = task;
+    this.error = error;
+  }
+}
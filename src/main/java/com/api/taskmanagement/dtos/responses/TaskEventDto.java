@@ -0,0 +1,15 @@
+package com.api.taskmanagement.dtos.responses;
+
+import lombok.Data;
+
+@Data
+public class TaskEventDto {
+  private String type;
+
+  private TaskResponseDto task;
+
+  public TaskEventDto(String type, TaskResponseDto task) {
+    this.type = type;
+    this.task = task;
+  }
+}
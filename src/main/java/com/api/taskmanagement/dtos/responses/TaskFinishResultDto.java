@@ -0,0 +1,12 @@
+package com.api.taskmanagement.dtos.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskFinishResultDto {
+  private Integer finished;
+}
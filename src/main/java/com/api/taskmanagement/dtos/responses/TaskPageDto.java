@@ -0,0 +1,17 @@
+package com.api.taskmanagement.dtos.responses;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class TaskPageDto {
+  private List<TaskResponseDto> content;
+
+  private String next_cursor;
+
+  public TaskPageDto(List<TaskResponseDto> content, String next_cursor) {
+    this.content = content;
+    this.next_cursor = next_cursor;
+  }
+}
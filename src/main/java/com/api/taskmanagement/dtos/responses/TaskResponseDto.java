@@ -0,0 +1,45 @@
+package com.api.taskmanagement.dtos.responses;
+
+import java.sql.Date;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+
+@Data
+public class TaskResponseDto {
+  private Long id;
+
+  private String title;
+
+  private String description;
+
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+  private Date deadline;
+
+  private Integer duration;
+
+  private Boolean finished;
+
+  private Long department_id;
+
+  private Long person_id;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private DepartmentSummaryDto department;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private PersonSummaryDto person;
+
+  public TaskResponseDto(Long id, String title, String description, Date deadline, Integer duration, Boolean finished, Long department_id, Long person_id) {
+    this.id = id;
+    this.title = title;
+    this.description = description;
+    this.deadline = deadline;
+    this.duration = duration;
+    this.finished = finished;
+    this.department_id = department_id;
+    this.person_id = person_id;
+  }
+}
@@ -0,0 +1,17 @@
+package com.api.taskmanagement.dtos.responses;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class TaskSearchPageDto {
+  private List<TaskResponseDto> content;
+
+  private Integer next_page;
+
+  public TaskSearchPageDto(List<TaskResponseDto> content, Integer next_page) {
+    this.content = content;
+    this.next_page = next_page;
+  }
+}
@@ -1,8 +1,14 @@
 package com.api.taskmanagement.models;
 
+import java.time.Instant;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 
 import jakarta.persistence.*;
@@ -12,7 +18,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "departments")
+@Table(name = "departments", uniqueConstraints = @UniqueConstraint(name = "departments_title_key", columnNames = "title"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,15 +26,38 @@ import lombok.NoArgsConstructor;
   scope = Department.class,
   generator = ObjectIdGenerators.PropertyGenerator.class, 
   property = "id")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Builder
 public class Department {
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_seq")
+  @SequenceGenerator(name = "departments_seq", sequenceName = "departments_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
   private String title;
 
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  @Builder.Default
+  private Long peopleCount = 0L;
+
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  @Builder.Default
+  private Long tasksCount = 0L;
+
+  @Version
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private Long version;
+
+  @UpdateTimestamp
+  @Column(nullable = false)
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private Instant updatedAt;
+
   @OneToMany(mappedBy = "department")
   private List<Person> people;
   
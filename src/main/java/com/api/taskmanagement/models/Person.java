@@ -1,9 +1,15 @@
 package com.api.taskmanagement.models;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 
 import jakarta.persistence.*;
@@ -13,7 +19,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "people")
+@Table(name = "people", indexes = {
+  @Index(name = "people_department_idx", columnList = "department_id"),
+  @Index(name = "people_name_idx", columnList = "name")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,19 +29,42 @@ import lombok.NoArgsConstructor;
   scope = Person.class,
   generator = ObjectIdGenerators.PropertyGenerator.class, 
   property = "id")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Builder
 public class Person implements Serializable {
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "people_seq")
+  @SequenceGenerator(name = "people_seq", sequenceName = "people_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
   private String name;
 
-  @ManyToOne(cascade = CascadeType.ALL)
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "department_id")
   private Department department;
 
   @OneToMany(mappedBy = "person")
   private List<Task> tasks;
+
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  @Builder.Default
+  private Long taskCount = 0L;
+
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  @Builder.Default
+  private Long durationSum = 0L;
+
+  @Version
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private Long version;
+
+  @UpdateTimestamp
+  @Column(nullable = false)
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private Instant updatedAt;
 }
@@ -2,6 +2,9 @@ package com.api.taskmanagement.models;
 
 import java.io.Serializable;
 import java.sql.Date;
+import java.time.Instant;
+
+import org.hibernate.annotations.UpdateTimestamp;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
@@ -14,7 +17,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+  @Index(name = "tasks_department_finished_deadline_idx", columnList = "department_id, finished, deadline, id"),
+  @Index(name = "tasks_person_finished_deadline_idx", columnList = "person_id, finished, deadline, id"),
+  @Index(name = "tasks_deadline_idx", columnList = "deadline, id")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,7 +31,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class Task implements Serializable {
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+  @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -44,14 +51,21 @@ public class Task implements Serializable {
   @Column(nullable = false)
   private Boolean finished;
   
-  @ManyToOne(cascade = CascadeType.ALL)
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "department_id")
   private Department department;
   
-  @ManyToOne(cascade = CascadeType.ALL)
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "person_id")
   private Person person;
 
+  @Version
+  private Long version;
+
+  @UpdateTimestamp
+  @Column(nullable = false)
+  private Instant updatedAt;
+
   public Task(String title, String description, Date deadline, Integer duration, Boolean finished) {
     this.title = title;
     this.description = description;
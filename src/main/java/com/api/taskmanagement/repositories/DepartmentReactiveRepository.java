@@ -0,0 +1,24 @@
+package com.api.taskmanagement.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@Repository
+@RequiredArgsConstructor
+public class DepartmentReactiveRepository {
+
+  private final DatabaseClient databaseClient;
+
+  public Flux<ListDepartmentDto> findAllWithPeopleAndTasks() {
+    return databaseClient.sql("SELECT id, title, people_count, tasks_count FROM departments "
+        + "WHERE people_count > 0 AND tasks_count > 0 ORDER BY id")
+      .map(row -> new ListDepartmentDto(row.get("id", Long.class), row.get("title", String.class), row.get("people_count", Long.class),
+        row.get("tasks_count", Long.class)))
+      .all();
+  }
+}
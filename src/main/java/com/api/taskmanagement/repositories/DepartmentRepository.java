@@ -4,14 +4,32 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.api.taskmanagement.dtos.responses.DepartmentResponseDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
 import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
 import com.api.taskmanagement.models.Department;
 
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
   Optional<Department> findByTitle(String title);
 
-  @Query("SELECT new com.api.taskmanagement.dtos.responses.ListDepartmentDto(d.id, d.title, count(distinct p.id), count(distinct t.id)) FROM Department d JOIN d.tasks t JOIN d.people p GROUP BY d.id")
+  @Query("SELECT new com.api.taskmanagement.dtos.responses.DepartmentResponseDto(d.id, d.title, d.peopleCount, d.tasksCount) FROM Department d WHERE d.id = :id")
+  public Optional<DepartmentResponseDto> findResponseById(@Param("id") Long id);
+
+  @Query("SELECT new com.api.taskmanagement.dtos.responses.EntityVersionDto(d.version, d.updatedAt) FROM Department d WHERE d.id = :id")
+  public Optional<EntityVersionDto> findVersionById(@Param("id") Long id);
+
+  @Query("SELECT new com.api.taskmanagement.dtos.responses.ListDepartmentDto(d.id, d.title, d.peopleCount, d.tasksCount) FROM Department d WHERE d.peopleCount > 0 AND d.tasksCount > 0")
   public List<ListDepartmentDto> findAllWithPeopleAndTasks();
+
+  @Modifying
+  @Query("UPDATE Department d SET d.peopleCount = d.peopleCount + :delta, d.version = d.version + 1, d.updatedAt = instant WHERE d.id = :id")
+  public int incrementPeopleCount(@Param("id") Long id, @Param("delta") long delta);
+
+  @Modifying
+  @Query("UPDATE Department d SET d.tasksCount = d.tasksCount + :delta, d.version = d.version + 1, d.updatedAt = instant WHERE d.id = :id")
+  public int incrementTasksCount(@Param("id") Long id, @Param("delta") long delta);
 }
@@ -0,0 +1,24 @@
+package com.api.taskmanagement.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.api.taskmanagement.dtos.responses.ListPeopleDto;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@Repository
+@RequiredArgsConstructor
+public class PersonReactiveRepository {
+
+  private final DatabaseClient databaseClient;
+
+  public Flux<ListPeopleDto> findAllWithDepartmentAndTaskDuration() {
+    return databaseClient.sql("SELECT p.id, p.name, d.title, p.duration_sum FROM people p "
+        + "JOIN departments d ON d.id = p.department_id WHERE p.task_count > 0 ORDER BY p.id")
+      .map(row -> new ListPeopleDto(row.get("id", Long.class), row.get("name", String.class), row.get("title", String.class),
+        row.get("duration_sum", Long.class)))
+      .all();
+  }
+}
@@ -1,19 +1,30 @@
 package com.api.taskmanagement.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
 import com.api.taskmanagement.dtos.responses.ListPeopleDto;
-import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
+import com.api.taskmanagement.dtos.responses.PersonResponseDto;
 import com.api.taskmanagement.models.Person;
 
 public interface PersonRepository extends JpaRepository<Person, Long> {
-  @Query("SELECT new com.api.taskmanagement.dtos.responses.PersonExpensesDto(p.id, p.name, avg(t.duration)) FROM Person p JOIN p.tasks t WHERE p.name = :name GROUP BY p.id")
-  public List<PersonExpensesDto> findWithDurationAverage(@Param("name") String name);
+  @Query("SELECT new com.api.taskmanagement.dtos.responses.PersonResponseDto(p.id, p.name, p.department.id) FROM Person p WHERE p.id = :id")
+  public Optional<PersonResponseDto> findResponseById(@Param("id") Long id);
+
+  @Query("SELECT new com.api.taskmanagement.dtos.responses.EntityVersionDto(p.version, p.updatedAt) FROM Person p WHERE p.id = :id")
+  public Optional<EntityVersionDto> findVersionById(@Param("id") Long id);
+
   
-  @Query("SELECT new com.api.taskmanagement.dtos.responses.ListPeopleDto(p.id, p.name, d.title, sum(t.duration)) FROM Person p JOIN p.tasks t JOIN p.department d GROUP BY p.id, d.title")
+  @Query("SELECT new com.api.taskmanagement.dtos.responses.ListPeopleDto(p.id, p.name, d.title, p.durationSum) FROM Person p JOIN p.department d WHERE p.taskCount > 0")
   public List<ListPeopleDto> findAllWithDepartmentAndTaskDuration();
+
+  @Modifying
+  @Query("UPDATE Person p SET p.taskCount = p.taskCount + :count, p.durationSum = p.durationSum + :duration WHERE p.id = :id")
+  public int incrementTaskAggregates(@Param("id") Long id, @Param("count") long count, @Param("duration") long duration);
 }
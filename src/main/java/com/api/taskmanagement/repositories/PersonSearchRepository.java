@@ -0,0 +1,47 @@
+package com.api.taskmanagement.repositories;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
+
+@Repository
+public class PersonSearchRepository {
+
+  private static final String COLUMNS = "id, name, CAST(duration_sum AS DOUBLE PRECISION) / task_count AS avg_duration";
+
+  private static final String POSTGRES_SEARCH = "SELECT " + COLUMNS + " FROM people "
+    + "WHERE task_count > 0 AND (name ILIKE :prefix ESCAPE '\\' OR name % :name) "
+    + "ORDER BY name ILIKE :prefix ESCAPE '\\' DESC, similarity(name, :name) DESC, id ASC LIMIT :limit OFFSET :offset";
+
+  private static final String PORTABLE_SEARCH = "SELECT " + COLUMNS + " FROM people "
+    + "WHERE task_count > 0 AND (LOWER(name) LIKE :prefix ESCAPE '\\' OR SOUNDEX(name) = SOUNDEX(:name)) "
+    + "ORDER BY CASE WHEN LOWER(name) LIKE :prefix ESCAPE '\\' THEN 0 ELSE 1 END, name ASC, id ASC LIMIT :limit OFFSET :offset";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  private final boolean postgres;
+
+  public PersonSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.postgres = "PostgreSQL".equals(jdbcTemplate.getJdbcTemplate()
+      .execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+  }
+
+  public List<PersonExpensesDto> searchWithDurationAverage(String name, int limit, long offset) {
+    String prefix = name.toLowerCase(Locale.ROOT).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    MapSqlParameterSource parameters = new MapSqlParameterSource()
+      .addValue("name", name)
+      .addValue("prefix", prefix)
+      .addValue("limit", limit)
+      .addValue("offset", offset);
+
+    return jdbcTemplate.query(postgres ? POSTGRES_SEARCH : PORTABLE_SEARCH, parameters,
+      (resultSet, rowNum) -> new PersonExpensesDto(resultSet.getLong("id"), resultSet.getString("name"), resultSet.getDouble("avg_duration")));
+  }
+}
@@ -0,0 +1,12 @@
+package com.api.taskmanagement.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.api.taskmanagement.models.Task;
+
+public interface TaskFilterRepository {
+  public List<Task> findAllLimited(Specification<Task> specification, Pageable pageable);
+}
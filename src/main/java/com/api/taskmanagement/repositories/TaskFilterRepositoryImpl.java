@@ -0,0 +1,41 @@
+package com.api.taskmanagement.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.api.taskmanagement.models.Task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+// JpaSpecificationExecutor.findAll(Specification, Pageable) also runs a count query for the Page it returns.
+// The filtered list only needs the rows, so this runs the same query with just a limit and an offset.
+@RequiredArgsConstructor
+public class TaskFilterRepositoryImpl implements TaskFilterRepository {
+
+  private final EntityManager entityManager;
+
+  @Override
+  public List<Task> findAllLimited(Specification<Task> specification, Pageable pageable) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Task> query = builder.createQuery(Task.class);
+    Root<Task> root = query.from(Task.class);
+    Predicate predicate = specification.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+    return entityManager.createQuery(query)
+      .setFirstResult((int) pageable.getOffset())
+      .setMaxResults(pageable.getPageSize())
+      .getResultList();
+  }
+}
@@ -0,0 +1,72 @@
+package com.api.taskmanagement.repositories;
+
+import java.sql.Date;
+import java.util.Collection;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TaskFinishRepository {
+
+  private static final String FINISH = "UPDATE tasks SET finished = true, version = version + 1, updated_at = CURRENT_TIMESTAMP "
+    + "WHERE finished = false";
+
+  private static final String OUTBOX_COLUMNS = "INSERT INTO outbox_events (id, type, task_id, payload, created_at) ";
+
+  private static final String POSTGRES_PAYLOAD = "json_build_object('type', 'finished', 'task', json_build_object('id', id, "
+    + "'title', title, 'description', description, 'deadline', to_char(deadline, 'YYYY-MM-DD'), 'duration', duration, "
+    + "'finished', true, 'department_id', department_id, 'person_id', person_id))::text";
+
+  private static final String PORTABLE_PAYLOAD = "CAST(JSON_OBJECT('type': 'finished', 'task': JSON_OBJECT('id': id, "
+    + "'title': title, 'description': description, 'deadline': CAST(deadline AS VARCHAR), 'duration': duration, "
+    + "'finished': TRUE, 'department_id': department_id, 'person_id': person_id NULL ON NULL) NULL ON NULL) AS VARCHAR)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  private final boolean postgres;
+
+  public TaskFinishRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.postgres = "PostgreSQL".equals(jdbcTemplate.getJdbcTemplate()
+      .execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+  }
+
+  public int finishByIds(Collection<Long> ids) {
+    return finish(" AND id IN (:ids)", new MapSqlParameterSource("ids", ids));
+  }
+
+  public int finishMatching(Long departmentId, Long personId, Date deadlineBefore) {
+    StringBuilder predicate = new StringBuilder();
+    MapSqlParameterSource parameters = new MapSqlParameterSource();
+    if (departmentId != null) {
+      predicate.append(" AND department_id = :departmentId");
+      parameters.addValue("departmentId", departmentId);
+    }
+    if (personId != null) {
+      predicate.append(" AND person_id = :personId");
+      parameters.addValue("personId", personId);
+    }
+    if (deadlineBefore != null) {
+      predicate.append(" AND deadline < :deadlineBefore");
+      parameters.addValue("deadlineBefore", deadlineBefore);
+    }
+    return finish(predicate.toString(), parameters);
+  }
+
+  // Every finished task gets its "finished" outbox row in the same transaction. PostgreSQL does it in one
+  // statement from the rows the UPDATE returns; elsewhere the rows are recorded with the same predicate first.
+  private int finish(String predicate, MapSqlParameterSource parameters) {
+    if (postgres) {
+      return jdbcTemplate.update("WITH finished AS (" + FINISH + predicate
+        + " RETURNING id, title, description, deadline, duration, department_id, person_id) " + OUTBOX_COLUMNS
+        + "SELECT nextval('outbox_events_seq'), 'finished', id, " + POSTGRES_PAYLOAD + ", CURRENT_TIMESTAMP FROM finished",
+        parameters);
+    }
+    jdbcTemplate.update(OUTBOX_COLUMNS + "SELECT NEXT VALUE FOR outbox_events_seq, 'finished', id, " + PORTABLE_PAYLOAD
+      + ", CURRENT_TIMESTAMP FROM tasks WHERE finished = false" + predicate, parameters);
+    return jdbcTemplate.update(FINISH + predicate, parameters);
+  }
+}
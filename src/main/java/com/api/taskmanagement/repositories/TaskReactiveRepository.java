@@ -0,0 +1,29 @@
+package com.api.taskmanagement.repositories;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@Repository
+@RequiredArgsConstructor
+public class TaskReactiveRepository {
+
+  private final DatabaseClient databaseClient;
+
+  public Flux<TaskResponseDto> findOldestTasksWithoutPerson(int limit) {
+    return databaseClient.sql("SELECT id, title, description, deadline, duration, finished, department_id, person_id FROM tasks "
+        + "WHERE person_id IS NULL ORDER BY deadline ASC, id ASC LIMIT :limit")
+      .bind("limit", limit)
+      .map(row -> new TaskResponseDto(row.get("id", Long.class), row.get("title", String.class), row.get("description", String.class),
+        Date.valueOf(row.get("deadline", LocalDate.class)), row.get("duration", Integer.class), row.get("finished", Boolean.class),
+        row.get("department_id", Long.class), row.get("person_id", Long.class)))
+      .all();
+  }
+}
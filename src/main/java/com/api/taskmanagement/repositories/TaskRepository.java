@@ -1,13 +1,44 @@
 package com.api.taskmanagement.repositories;
 
+import java.sql.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
+import com.api.taskmanagement.dtos.responses.TaskExportDto;
 import com.api.taskmanagement.models.Task;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
-  @Query("SELECT t FROM Task t WHERE t.person IS NULL ORDER BY t.deadline ASC LIMIT 3")
-  public List<Task> findThreeOldestTasksWithoutPerson();
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskFilterRepository {
+  @Query("SELECT new com.api.taskmanagement.dtos.responses.EntityVersionDto(t.version, t.updatedAt) FROM Task t WHERE t.id = :id")
+  public Optional<EntityVersionDto> findVersionById(@Param("id") Long id);
+
+  @Query("SELECT t FROM Task t WHERE t.person IS NULL ORDER BY t.deadline ASC, t.id ASC")
+  public List<Task> findOldestTasksWithoutPerson(Pageable pageable);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT t FROM Task t WHERE t.person IS NULL AND t.department.id = :departmentId ORDER BY t.deadline ASC, t.id ASC")
+  public List<Task> lockOldestTasksWithoutPerson(@Param("departmentId") Long departmentId, Pageable pageable);
+
+  @Query("SELECT t FROM Task t ORDER BY t.deadline ASC, t.id ASC")
+  public List<Task> findFirstPage(Pageable pageable);
+
+  @Query("SELECT t FROM Task t WHERE (t.deadline, t.id) > (:deadline, :id) ORDER BY t.deadline ASC, t.id ASC")
+  public List<Task> findPageAfter(@Param("deadline") Date deadline, @Param("id") Long id, Pageable pageable);
+
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+  @Query("SELECT new com.api.taskmanagement.dtos.responses.TaskExportDto(t.id, t.title, t.description, t.deadline, t.duration, t.finished, t.department.id, t.person.id) FROM Task t ORDER BY t.id")
+  public Stream<TaskExportDto> streamAllForExport();
 }
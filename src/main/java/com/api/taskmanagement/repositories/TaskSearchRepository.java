@@ -0,0 +1,55 @@
+package com.api.taskmanagement.repositories;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+
+@Repository
+public class TaskSearchRepository {
+
+  private static final String COLUMNS = "id, title, description, deadline, duration, finished, department_id, person_id";
+
+  // search_vector is the stored generated column from V12, so ranking reads it instead of parsing title and description again
+  private static final String POSTGRES_SEARCH = "SELECT " + COLUMNS + " FROM tasks, websearch_to_tsquery('simple', :query) query "
+    + "WHERE search_vector @@ query ORDER BY ts_rank(search_vector, query) DESC, id ASC LIMIT :limit OFFSET :offset";
+
+  private static final String PORTABLE_SEARCH = "SELECT " + COLUMNS + " FROM tasks "
+    + "WHERE LOWER(title) LIKE :pattern ESCAPE '\\' OR LOWER(description) LIKE :pattern ESCAPE '\\' "
+    + "ORDER BY CASE WHEN LOWER(title) LIKE :pattern ESCAPE '\\' THEN 0 ELSE 1 END, id ASC LIMIT :limit OFFSET :offset";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  private final boolean postgres;
+
+  public TaskSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.postgres = "PostgreSQL".equals(jdbcTemplate.getJdbcTemplate()
+      .execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+  }
+
+  public List<TaskResponseDto> search(String query, int limit, long offset) {
+    MapSqlParameterSource parameters = new MapSqlParameterSource()
+      .addValue("limit", limit)
+      .addValue("offset", offset);
+
+    if (postgres) {
+      return jdbcTemplate.query(POSTGRES_SEARCH, parameters.addValue("query", query), this::toResponse);
+    }
+    String pattern = "%" + query.toLowerCase(Locale.ROOT).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    return jdbcTemplate.query(PORTABLE_SEARCH, parameters.addValue("pattern", pattern), this::toResponse);
+  }
+
+  private TaskResponseDto toResponse(ResultSet resultSet, int rowNum) throws SQLException {
+    return new TaskResponseDto(resultSet.getLong("id"), resultSet.getString("title"), resultSet.getString("description"),
+      resultSet.getDate("deadline"), resultSet.getInt("duration"), resultSet.getBoolean("finished"),
+      resultSet.getObject("department_id", Long.class), resultSet.getObject("person_id", Long.class));
+  }
+}
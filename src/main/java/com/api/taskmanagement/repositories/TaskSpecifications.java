@@ -0,0 +1,42 @@
+package com.api.taskmanagement.repositories;
+
+import java.sql.Date;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.api.taskmanagement.dtos.requests.TaskFilterDto;
+import com.api.taskmanagement.models.Task;
+
+public final class TaskSpecifications {
+
+  private TaskSpecifications() {
+  }
+
+  public static Specification<Task> matching(TaskFilterDto filter) {
+    return Specification.where(hasDepartment(filter.getDepartment_id()))
+      .and(hasPerson(filter.getPerson_id()))
+      .and(isFinished(filter.getFinished()))
+      .and(deadlineFrom(filter.getDeadline_from()))
+      .and(deadlineTo(filter.getDeadline_to()));
+  }
+
+  public static Specification<Task> hasDepartment(Long departmentId) {
+    return departmentId == null ? null : (root, query, builder) -> builder.equal(root.get("department").get("id"), departmentId);
+  }
+
+  public static Specification<Task> hasPerson(Long personId) {
+    return personId == null ? null : (root, query, builder) -> builder.equal(root.get("person").get("id"), personId);
+  }
+
+  public static Specification<Task> isFinished(Boolean finished) {
+    return finished == null ? null : (root, query, builder) -> builder.equal(root.get("finished"), finished);
+  }
+
+  public static Specification<Task> deadlineFrom(Date from) {
+    return from == null ? null : (root, query, builder) -> builder.greaterThanOrEqualTo(root.<Date>get("deadline"), from);
+  }
+
+  public static Specification<Task> deadlineTo(Date to) {
+    return to == null ? null : (root, query, builder) -> builder.lessThanOrEqualTo(root.<Date>get("deadline"), to);
+  }
+}
@@ -0,0 +1,37 @@
+package com.api.taskmanagement.services;
+
+import java.util.Optional;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.api.taskmanagement.dtos.responses.DepartmentEventDto;
+import com.api.taskmanagement.models.Department;
+import com.api.taskmanagement.repositories.DepartmentRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class DepartmentCacheService {
+
+  public static final String DEPARTMENTS_BY_ID = "departmentsById";
+
+  private final DepartmentRepository departmentRepository;
+
+  @Cacheable(cacheNames = DEPARTMENTS_BY_ID, unless = "#result == null")
+  public Optional<Department> findById(Long id) {
+    return departmentRepository.findById(id).map(this::snapshot);
+  }
+
+  @CacheEvict(cacheNames = DEPARTMENTS_BY_ID, key = "#event.id")
+  @TransactionalEventListener(fallbackExecution = true)
+  public void evict(DepartmentEventDto event) {
+  }
+
+  private Department snapshot(Department department) {
+    return Department.builder().id(department.getId()).title(department.getTitle()).build();
+  }
+}
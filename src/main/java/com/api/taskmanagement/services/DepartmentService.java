@@ -3,8 +3,13 @@ package com.api.taskmanagement.services;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import com.api.taskmanagement.dtos.responses.DepartmentEventDto;
+import com.api.taskmanagement.dtos.responses.DepartmentResponseDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
 import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
 import com.api.taskmanagement.models.Department;
 import com.api.taskmanagement.repositories.DepartmentRepository;
@@ -18,34 +23,38 @@ public class DepartmentService {
 
   private final DepartmentRepository departmentRepository;
 
-  @Transactional
-  public Department create(Department department) {
-    Optional<Department> existsDepartment = departmentRepository.findByTitle(department.getTitle());
+  private final ApplicationEventPublisher eventPublisher;
 
-    if (existsDepartment.isPresent()) {
-      throw new Error("Department already exists");
+  public DepartmentResponseDto create(Department department) {
+    try {
+      return toResponse(departmentRepository.saveAndFlush(department));
+    } catch (DataIntegrityViolationException e) {
+      return departmentRepository.findByTitle(department.getTitle()).map(this::toResponse).orElseThrow(() -> e);
     }
-
-    return departmentRepository.save(department);
   }
 
   public List<ListDepartmentDto> findAll() {
     return departmentRepository.findAllWithPeopleAndTasks();
   }
 
-  public Optional<Department> findById(Long id) {
-    return departmentRepository.findById(id);
+  public Optional<DepartmentResponseDto> findById(Long id) {
+    return departmentRepository.findResponseById(id);
+  }
+
+  public Optional<EntityVersionDto> findVersionById(Long id) {
+    return departmentRepository.findVersionById(id);
   }
 
   @Transactional
-  public Department update(Long id, String title) {
+  public DepartmentResponseDto update(Long id, String title) {
     Optional<Department> optionalDepartment = departmentRepository.findById(id);
     if (!optionalDepartment.isPresent()) {
       throw new Error("Department not found");
     }
     Department department = optionalDepartment.get();
+    eventPublisher.publishEvent(new DepartmentEventDto(department.getId()));
     department.setTitle(title);
-    return departmentRepository.save(department);
+    return toResponse(departmentRepository.save(department));
   }
 
   @Transactional
@@ -54,6 +63,11 @@ public class DepartmentService {
     if (!department.isPresent()) {
       throw new Error("Department not found");
     }
+    eventPublisher.publishEvent(new DepartmentEventDto(department.get().getId()));
     departmentRepository.delete(department.get());
   }
+
+  private DepartmentResponseDto toResponse(Department department) {
+    return new DepartmentResponseDto(department.getId(), department.getTitle(), department.getPeopleCount(), department.getTasksCount());
+  }
 }
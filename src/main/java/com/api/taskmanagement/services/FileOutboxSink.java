@@ -0,0 +1,35 @@
+package com.api.taskmanagement.services;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.api.taskmanagement.models.OutboxEvent;
+
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+  private final Path file;
+
+  public FileOutboxSink(Environment environment) {
+    this.file = Path.of(environment.getProperty("app.outbox.file", "outbox.ndjson"));
+  }
+
+  @Override
+  public synchronized void publish(List<OutboxEvent> events) throws IOException {
+    StringBuilder lines = new StringBuilder();
+    for (OutboxEvent event : events) {
+      lines.append(event.getPayload()).append('\n');
+    }
+    Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+      StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+  }
+}
@@ -0,0 +1,93 @@
+package com.api.taskmanagement.services;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.api.taskmanagement.dtos.responses.TaskEventDto;
+import com.api.taskmanagement.models.OutboxEvent;
+import com.api.taskmanagement.repositories.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+  public static final String PENDING_GAUGE = "taskmanagement.outbox.pending";
+
+  public static final String DELIVERED_COUNTER = "taskmanagement.outbox.delivered";
+
+  public static final String LAG_TIMER = "taskmanagement.outbox.lag";
+
+  private final OutboxEventRepository outboxEventRepository;
+
+  private final OutboxSink outboxSink;
+
+  private final ObjectMapper objectMapper;
+
+  private final MeterRegistry meterRegistry;
+
+  private final AtomicLong pending = new AtomicLong();
+
+  @PostConstruct
+  public void registerMetrics() {
+    meterRegistry.gauge(PENDING_GAUGE, pending);
+  }
+
+  public long refreshPending() {
+    pending.set(outboxEventRepository.count());
+    return pending.get();
+  }
+
+  @EventListener
+  @Transactional(TxType.MANDATORY)
+  public void record(TaskEventDto event) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new Error("Could not serialize the task event");
+    }
+
+    OutboxEvent outboxEvent = new OutboxEvent();
+    outboxEvent.setType(event.getType());
+    outboxEvent.setTaskId(event.getTask().getId());
+    outboxEvent.setPayload(payload);
+    outboxEventRepository.save(outboxEvent);
+  }
+
+  @Transactional
+  public int relayBatch(int limit) {
+    List<OutboxEvent> events = outboxEventRepository.lockOldestEvents(PageRequest.of(0, Math.max(1, limit)));
+    if (events.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      outboxSink.publish(events);
+    } catch (IOException e) {
+      throw new Error("Could not deliver the outbox events");
+    }
+    outboxEventRepository.deleteAllInBatch(events);
+
+    Instant now = Instant.now();
+    for (OutboxEvent event : events) {
+      meterRegistry.timer(LAG_TIMER, "type", event.getType()).record(Duration.between(event.getCreatedAt(), now));
+    }
+    meterRegistry.counter(DELIVERED_COUNTER).increment(events.size());
+    return events.size();
+  }
+}
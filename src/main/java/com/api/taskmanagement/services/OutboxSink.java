@@ -0,0 +1,10 @@
+package com.api.taskmanagement.services;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.api.taskmanagement.models.OutboxEvent;
+
+public interface OutboxSink {
+  void publish(List<OutboxEvent> events) throws IOException;
+}
@@ -6,12 +6,16 @@ import java.util.Optional;
 import org.springframework.stereotype.Service;
 
 import com.api.taskmanagement.dtos.requests.PersonDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
 import com.api.taskmanagement.dtos.responses.ListPeopleDto;
 import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
+import com.api.taskmanagement.dtos.responses.PersonExpensesPageDto;
+import com.api.taskmanagement.dtos.responses.PersonResponseDto;
 import com.api.taskmanagement.models.Department;
 import com.api.taskmanagement.models.Person;
 import com.api.taskmanagement.repositories.DepartmentRepository;
 import com.api.taskmanagement.repositories.PersonRepository;
+import com.api.taskmanagement.repositories.PersonSearchRepository;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -19,56 +23,86 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class PersonService {
+
+  public static final int MAX_PAGE_SIZE = 100;
   
   private final PersonRepository personRepository;
 
+  private final PersonSearchRepository personSearchRepository;
+
   private final DepartmentRepository departmentRepository;
 
+  private final DepartmentCacheService departmentCacheService;
+
   @Transactional
-  public Person create(PersonDto personDto) {
-    Optional<Department> optionalDepartment = departmentRepository.findById(personDto.getDepartment_id());
+  public PersonResponseDto create(PersonDto personDto) {
+    Optional<Department> optionalDepartment = departmentCacheService.findById(personDto.getDepartment_id());
     if (!optionalDepartment.isPresent()) {
       throw new Error("Department not found");
     }
-    Department department = optionalDepartment.get();
+    Department department = departmentRepository.getReferenceById(optionalDepartment.get().getId());
 
     Person person = new Person();
     person.setName(personDto.getName());
     person.setDepartment(department);
+    departmentRepository.incrementPeopleCount(department.getId(), 1);
 
-    return personRepository.save(person);
+    return toResponse(personRepository.save(person));
   }
 
   public List<ListPeopleDto> findAll() {
     return personRepository.findAllWithDepartmentAndTaskDuration();
   }
 
-  public List<PersonExpensesDto> findAllWithAvgDuration(String name) {
-    return personRepository.findWithDurationAverage(name);
+  public PersonExpensesPageDto findAllWithAvgDuration(String name, int page, int size) {
+    if (name == null || name.isBlank()) {
+      throw new Error("Name is required");
+    }
+
+    int pageNumber = Math.max(0, page);
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    List<PersonExpensesDto> people = personSearchRepository.searchWithDurationAverage(name.strip(), pageSize + 1, (long) pageNumber * pageSize);
+
+    if (people.size() <= pageSize) {
+      return new PersonExpensesPageDto(people, null);
+    }
+    return new PersonExpensesPageDto(people.subList(0, pageSize), pageNumber + 1);
   }
 
-  public Optional<Person> findById(Long id) {
-    return personRepository.findById(id);
+  public Optional<PersonResponseDto> findById(Long id) {
+    return personRepository.findResponseById(id);
+  }
+
+  public Optional<EntityVersionDto> findVersionById(Long id) {
+    return personRepository.findVersionById(id);
   }
 
   @Transactional
-  public Person update(Long id, PersonDto personDto) {
+  public PersonResponseDto update(Long id, PersonDto personDto) {
     Optional<Person> optionalPerson = personRepository.findById(id);
     if (!optionalPerson.isPresent()) {
       throw new Error("Person not found");
     }
 
-    Optional<Department> optionalDepartment = departmentRepository.findById(personDto.getDepartment_id());
+    Optional<Department> optionalDepartment = departmentCacheService.findById(personDto.getDepartment_id());
     if (!optionalDepartment.isPresent()) {
       throw new Error("Department not found");
     }
-    Department department = optionalDepartment.get();
+    Department department = departmentRepository.getReferenceById(optionalDepartment.get().getId());
     
     Person person = optionalPerson.get();
+    Department previousDepartment = person.getDepartment();
+    if (previousDepartment == null || !previousDepartment.getId().equals(department.getId())) {
+      if (previousDepartment != null) {
+        departmentRepository.incrementPeopleCount(previousDepartment.getId(), -1);
+      }
+      departmentRepository.incrementPeopleCount(department.getId(), 1);
+    }
+
     person.setName(personDto.getName());
     person.setDepartment(department);
 
-    return personRepository.save(person);
+    return toResponse(personRepository.save(person));
   }
 
   @Transactional
@@ -77,6 +111,14 @@ public class PersonService {
     if (!optionalPerson.isPresent()) {
       throw new Error("Person not found");
     }
-    personRepository.delete(optionalPerson.get());
+    Person person = optionalPerson.get();
+    if (person.getDepartment() != null) {
+      departmentRepository.incrementPeopleCount(person.getDepartment().getId(), -1);
+    }
+    personRepository.delete(person);
+  }
+
+  private PersonResponseDto toResponse(Person person) {
+    return new PersonResponseDto(person.getId(), person.getName(), person.getDepartment() == null ? null : person.getDepartment().getId());
   }
 }
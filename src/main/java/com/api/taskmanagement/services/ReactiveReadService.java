@@ -0,0 +1,36 @@
+package com.api.taskmanagement.services;
+
+import org.springframework.stereotype.Service;
+
+import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
+import com.api.taskmanagement.dtos.responses.ListPeopleDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.repositories.DepartmentReactiveRepository;
+import com.api.taskmanagement.repositories.PersonReactiveRepository;
+import com.api.taskmanagement.repositories.TaskReactiveRepository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveReadService {
+
+  private final TaskReactiveRepository taskReactiveRepository;
+
+  private final PersonReactiveRepository personReactiveRepository;
+
+  private final DepartmentReactiveRepository departmentReactiveRepository;
+
+  public Flux<TaskResponseDto> findOldestTasksWithoutPerson(int limit) {
+    return taskReactiveRepository.findOldestTasksWithoutPerson(Math.max(1, Math.min(limit, TaskService.MAX_PAGE_SIZE)));
+  }
+
+  public Flux<ListPeopleDto> findAllPeople() {
+    return personReactiveRepository.findAllWithDepartmentAndTaskDuration();
+  }
+
+  public Flux<ListDepartmentDto> findAllDepartments() {
+    return departmentReactiveRepository.findAllWithPeopleAndTasks();
+  }
+}
@@ -0,0 +1,165 @@
+package com.api.taskmanagement.services;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.api.taskmanagement.dtos.responses.TaskEventDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class TaskEventService {
+
+  public static final String CREATED = "created";
+
+  public static final String ALLOCATED = "allocated";
+
+  public static final String FINISHED = "finished";
+
+  public static final String DELETED = "deleted";
+
+  public static final String SUBSCRIBERS_GAUGE = "taskmanagement.events.subscribers";
+
+  public static final String DROPPED_COUNTER = "taskmanagement.events.dropped";
+
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+  private final ExecutorService executor;
+
+  private final Counter dropped;
+
+  private final int bufferSize;
+
+  private final long timeout;
+
+  @Autowired
+  public TaskEventService(MeterRegistry meterRegistry, Environment environment) {
+    this(meterRegistry, environment.getProperty("app.events.buffer-size", Integer.class, 256),
+      environment.getProperty("app.events.timeout-ms", Long.class, 1800000L),
+      Executors.newFixedThreadPool(environment.getProperty("app.events.threads", Integer.class, 4), new CustomizableThreadFactory("task-events-")));
+  }
+
+  TaskEventService(MeterRegistry meterRegistry, int bufferSize, long timeout, ExecutorService executor) {
+    this.bufferSize = bufferSize;
+    this.timeout = timeout;
+    this.executor = executor;
+    this.dropped = meterRegistry.counter(DROPPED_COUNTER);
+    meterRegistry.gaugeCollectionSize(SUBSCRIBERS_GAUGE, Tags.empty(), subscribers);
+  }
+
+  public SseEmitter subscribe(Long department_id, Long person_id) {
+    SseEmitter emitter = new SseEmitter(timeout);
+    Subscriber subscriber = new Subscriber(emitter, department_id, person_id);
+    emitter.onCompletion(() -> subscribers.remove(subscriber));
+    emitter.onError(error -> subscribers.remove(subscriber));
+    emitter.onTimeout(() -> {
+      subscribers.remove(subscriber);
+      emitter.complete();
+    });
+    try {
+      emitter.send(SseEmitter.event().comment("subscribed"));
+    } catch (IOException e) {
+      throw new Error("Could not open the event stream");
+    }
+    subscribers.add(subscriber);
+    return emitter;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void publish(TaskEventDto event) {
+    for (Subscriber subscriber : subscribers) {
+      if (subscriber.accepts(event)) {
+        subscriber.offer(event);
+      }
+    }
+  }
+
+  public int countSubscribers() {
+    return subscribers.size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    subscribers.clear();
+    executor.shutdown();
+  }
+
+  private class Subscriber {
+    private final SseEmitter emitter;
+
+    private final Long department_id;
+
+    private final Long person_id;
+
+    private final BlockingQueue<TaskEventDto> buffer = new ArrayBlockingQueue<>(bufferSize);
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private volatile boolean overflowed;
+
+    private Subscriber(SseEmitter emitter, Long department_id, Long person_id) {
+      this.emitter = emitter;
+      this.department_id = department_id;
+      this.person_id = person_id;
+    }
+
+    private boolean accepts(TaskEventDto event) {
+      return (department_id == null || Objects.equals(department_id, event.getTask().getDepartment_id()))
+        && (person_id == null || Objects.equals(person_id, event.getTask().getPerson_id()));
+    }
+
+    private void offer(TaskEventDto event) {
+      if (!buffer.offer(event)) {
+        overflowed = true;
+        subscribers.remove(this);
+        dropped.increment();
+      }
+      schedule();
+    }
+
+    private void schedule() {
+      if (draining.compareAndSet(false, true)) {
+        executor.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      try {
+        TaskEventDto event;
+        while (!overflowed && (event = buffer.poll()) != null) {
+          emitter.send(SseEmitter.event().name(event.getType()).data(event));
+        }
+        if (overflowed) {
+          emitter.complete();
+          return;
+        }
+      } catch (IOException | IllegalStateException e) {
+        subscribers.remove(this);
+        return;
+      } finally {
+        draining.set(false);
+      }
+      if (!buffer.isEmpty()) {
+        schedule();
+      }
+    }
+  }
+}
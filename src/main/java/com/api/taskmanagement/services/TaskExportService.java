@@ -0,0 +1,53 @@
+package com.api.taskmanagement.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+
+import com.api.taskmanagement.dtos.responses.TaskExportDto;
+import com.api.taskmanagement.repositories.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+  public static final int FLUSH_INTERVAL = 500;
+
+  private final TaskRepository taskRepository;
+
+  private final ObjectMapper objectMapper;
+
+  @Transactional
+  public void exportTo(OutputStream outputStream) throws IOException {
+    ObjectWriter writer = objectMapper.writerFor(TaskExportDto.class)
+      .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    try (Stream<TaskExportDto> tasks = taskRepository.streamAllForExport();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+
+      int written = 0;
+      Iterator<TaskExportDto> iterator = tasks.iterator();
+      while (iterator.hasNext()) {
+        writer.writeValue(generator, iterator.next());
+        generator.writeRaw('\n');
+
+        if (++written % FLUSH_INTERVAL == 0) {
+          generator.flush();
+        }
+      }
+      generator.flush();
+    }
+  }
+}
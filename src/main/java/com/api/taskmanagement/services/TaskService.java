@@ -1,11 +1,38 @@
 package com.api.taskmanagement.services;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.api.taskmanagement.dtos.requests.TaskAllocationDto;
 import com.api.taskmanagement.dtos.requests.TaskDto;
+import com.api.taskmanagement.dtos.requests.TaskFilterDto;
+import com.api.taskmanagement.dtos.requests.TaskFinishDto;
+import com.api.taskmanagement.dtos.responses.DepartmentSummaryDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
+import com.api.taskmanagement.dtos.responses.PersonSummaryDto;
+import com.api.taskmanagement.dtos.responses.TaskAllocationResultDto;
+import com.api.taskmanagement.dtos.responses.TaskEventDto;
+import com.api.taskmanagement.dtos.responses.TaskFinishResultDto;
+import com.api.taskmanagement.dtos.responses.TaskPageDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.dtos.responses.TaskSearchPageDto;
 import com.api.taskmanagement.models.*;
 import com.api.taskmanagement.repositories.*;
 
@@ -15,6 +42,18 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class TaskService {
+
+  public static final int MAX_PAGE_SIZE = 100;
+
+  public static final int DEFAULT_PAGE_SIZE = 20;
+
+  public static final int MAX_SEARCH_RESULTS = 1000;
+
+  public static final String EXPAND_DEPARTMENT = "department";
+
+  public static final String EXPAND_PERSON = "person";
+
+  public static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "title", "deadline", "duration", "finished");
   
   private final TaskRepository taskRepository;
   
@@ -22,33 +61,132 @@ public class TaskService {
 
   private final DepartmentRepository departmentRepository;
 
+  private final DepartmentCacheService departmentCacheService;
+
+  private final TaskSearchRepository taskSearchRepository;
+
+  private final TaskFinishRepository taskFinishRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   @Transactional
-  public Task create(TaskDto taskDto) {
-    Optional<Department> optionalDepartment = departmentRepository.findById(taskDto.getDepartment_id());
+  public TaskResponseDto create(TaskDto taskDto) {
+    Optional<Department> optionalDepartment = departmentCacheService.findById(taskDto.getDepartment_id());
     if (!optionalDepartment.isPresent()) {
       throw new Error("Department not found");
     }
 
     Task task = new Task(taskDto.getTitle(), taskDto.getDescription(), taskDto.getDeadline(), taskDto.getDuration(), taskDto.getFinished());
-    task.setDepartment(optionalDepartment.get());
+    task.setDepartment(departmentRepository.getReferenceById(optionalDepartment.get().getId()));
+    departmentRepository.incrementTasksCount(optionalDepartment.get().getId(), 1);
 
-    return taskRepository.save(task);
+    return publish(TaskEventService.CREATED, toResponse(taskRepository.save(task), null));
   }
 
-  public List<Task> findAll() {
-    return taskRepository.findAll();
+  @Transactional
+  public List<TaskResponseDto> createBatch(List<TaskDto> taskDtos) {
+    Set<Long> departmentIds = taskDtos.stream()
+      .map(TaskDto::getDepartment_id)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+    Map<Long, Department> departments = departmentRepository.findAllById(departmentIds).stream()
+      .collect(Collectors.toMap(Department::getId, Function.identity()));
+
+    List<Task> tasks = new ArrayList<>(taskDtos.size());
+    for (TaskDto taskDto : taskDtos) {
+      Department department = departments.get(taskDto.getDepartment_id());
+      if (department == null) {
+        throw new Error("Department not found");
+      }
+
+      Task task = new Task(taskDto.getTitle(), taskDto.getDescription(), taskDto.getDeadline(), taskDto.getDuration(), taskDto.getFinished());
+      task.setDepartment(department);
+      tasks.add(task);
+    }
+
+    tasks.stream()
+      .collect(Collectors.groupingBy(task -> task.getDepartment().getId(), Collectors.counting()))
+      .forEach(departmentRepository::incrementTasksCount);
+
+    List<TaskResponseDto> responses = toResponses(taskRepository.saveAll(tasks), null);
+    responses.forEach(response -> publish(TaskEventService.CREATED, response));
+    return responses;
   }
 
-  public List<Task> findThreeOldestTasksWithoutPerson() {
-    return taskRepository.findThreeOldestTasksWithoutPerson();
+  @Transactional
+  public List<TaskResponseDto> findAll(TaskFilterDto filter, Integer page, Integer size, List<String> expand) {
+    Sort sort = toSort(filter.getSort());
+    // Without page and size GET /tasks keeps returning every matching task; /tasks/page is the paginated listing
+    if (page == null && size == null) {
+      return toResponses(taskRepository.findAll(TaskSpecifications.matching(filter), sort), expand);
+    }
+
+    int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    PageRequest pageRequest = PageRequest.of(page == null ? 0 : Math.max(0, page), pageSize, sort);
+    return toResponses(taskRepository.findAllLimited(TaskSpecifications.matching(filter), pageRequest), expand);
   }
 
-  public Optional<Task> findById(Long id) {
-    return taskRepository.findById(id);
+  @Transactional
+  public TaskPageDto findPage(String cursor, int size, List<String> expand) {
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+    List<Task> tasks;
+    if (cursor == null || cursor.isBlank()) {
+      tasks = taskRepository.findFirstPage(limit);
+    } else {
+      String[] position = decodeCursor(cursor);
+      tasks = taskRepository.findPageAfter(Date.valueOf(position[0]), Long.valueOf(position[1]), limit);
+    }
+
+    if (tasks.size() <= pageSize) {
+      return new TaskPageDto(toResponses(tasks, expand), null);
+    }
+
+    List<Task> content = tasks.subList(0, pageSize);
+    return new TaskPageDto(toResponses(content, expand), encodeCursor(content.get(pageSize - 1)));
+  }
+
+  public TaskSearchPageDto search(String query, int page, int size) {
+    if (query == null || query.isBlank()) {
+      throw new Error("Search query is required");
+    }
+
+    int pageNumber = Math.max(0, page);
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    long offset = (long) pageNumber * pageSize;
+    if (offset >= MAX_SEARCH_RESULTS) {
+      throw new Error("Search only returns the first " + MAX_SEARCH_RESULTS + " matches");
+    }
+
+    // Every page ranks and sorts all the skipped matches again, so the search stops at MAX_SEARCH_RESULTS
+    int limit = (int) Math.min(pageSize + 1, MAX_SEARCH_RESULTS - offset);
+    List<TaskResponseDto> tasks = taskSearchRepository.search(query.strip(), limit, offset);
+
+    if (tasks.size() <= pageSize) {
+      return new TaskSearchPageDto(tasks, null);
+    }
+    return new TaskSearchPageDto(tasks.subList(0, pageSize), pageNumber + 1);
+  }
+
+  @Transactional
+  public List<TaskResponseDto> findOldestTasksWithoutPerson(int limit, List<String> expand) {
+    int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    return toResponses(taskRepository.findOldestTasksWithoutPerson(PageRequest.of(0, pageSize)), expand);
+  }
+
+  @Transactional
+  public Optional<TaskResponseDto> findById(Long id, List<String> expand) {
+    return taskRepository.findById(id).map(task -> toResponse(task, expand));
   }
 
   @Transactional
-  public Task allocatePerson(Long id, Long person_id) {
+  public Optional<EntityVersionDto> findVersionById(Long id) {
+    return taskRepository.findVersionById(id);
+  }
+
+  @Transactional
+  public TaskResponseDto allocatePerson(Long id, Long person_id) {
     Optional<Task> optionalTask = taskRepository.findById(id);
     if (!optionalTask.isPresent()) {
       throw new Error("Task not found");
@@ -59,18 +197,127 @@ public class TaskService {
       throw new Error("Person not found");
     }
 
-    if (!optionalTask.get().getDepartment().equals(optionalPerson.get().getDepartment())) {
+    Department taskDepartment = optionalTask.get().getDepartment();
+    Department personDepartment = optionalPerson.get().getDepartment();
+    if (taskDepartment == null || personDepartment == null || !taskDepartment.getId().equals(personDepartment.getId())) {
       throw new Error("Must be the same department");
     }
 
     Task task = optionalTask.get();
-    task.setPerson(optionalPerson.get());
+    Person previousPerson = task.getPerson();
+    Person person = optionalPerson.get();
+    if (previousPerson == null || !previousPerson.getId().equals(person.getId())) {
+      if (previousPerson != null) {
+        personRepository.incrementTaskAggregates(previousPerson.getId(), -1, -task.getDuration());
+      }
+      personRepository.incrementTaskAggregates(person.getId(), 1, task.getDuration());
+    }
+    task.setPerson(person);
 
-    return taskRepository.save(task);
+    return publish(TaskEventService.ALLOCATED, toResponse(taskRepository.save(task), null));
   }
 
   @Transactional
-  public Task finishTask(Long id) {
+  public List<TaskAllocationResultDto> allocateBatch(List<TaskAllocationDto> allocations) {
+    Set<Long> taskIds = allocations.stream()
+      .map(TaskAllocationDto::getTask_id)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+    Set<Long> personIds = allocations.stream()
+      .map(TaskAllocationDto::getPerson_id)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+    Map<Long, Task> tasks = taskRepository.findAllById(taskIds).stream()
+      .collect(Collectors.toMap(Task::getId, Function.identity()));
+    Map<Long, Person> people = personRepository.findAllById(personIds).stream()
+      .collect(Collectors.toMap(Person::getId, Function.identity()));
+
+    Map<Long, long[]> aggregates = new TreeMap<>();
+    Map<Long, Task> allocated = new LinkedHashMap<>();
+    Map<Long, Integer> allocatedBy = new HashMap<>();
+    List<String> errors = new ArrayList<>(allocations.size());
+    for (TaskAllocationDto allocation : allocations) {
+      Task task = tasks.get(allocation.getTask_id());
+      Person person = people.get(allocation.getPerson_id());
+      if (task == null) {
+        errors.add("Task not found");
+        continue;
+      }
+      if (person == null) {
+        errors.add("Person not found");
+        continue;
+      }
+
+      Department taskDepartment = task.getDepartment();
+      Department personDepartment = person.getDepartment();
+      if (taskDepartment == null || personDepartment == null || !taskDepartment.getId().equals(personDepartment.getId())) {
+        errors.add("Must be the same department");
+        continue;
+      }
+
+      Person previousPerson = task.getPerson();
+      if (previousPerson == null || !previousPerson.getId().equals(person.getId())) {
+        if (previousPerson != null) {
+          addAggregates(aggregates, previousPerson.getId(), -1, -task.getDuration());
+        }
+        addAggregates(aggregates, person.getId(), 1, task.getDuration());
+      }
+      task.setPerson(person);
+      allocated.put(task.getId(), task);
+      // The last pair for a task is the one that is saved, so an earlier pair for the same task is reported as failed
+      Integer previousPair = allocatedBy.put(task.getId(), errors.size());
+      if (previousPair != null) {
+        errors.set(previousPair, "Task reallocated by a later pair");
+      }
+      errors.add(null);
+    }
+
+    aggregates.forEach((id, delta) -> {
+      if (delta[0] != 0 || delta[1] != 0) {
+        personRepository.incrementTaskAggregates(id, delta[0], delta[1]);
+      }
+    });
+
+    Map<Long, TaskResponseDto> responses = taskRepository.saveAll(allocated.values()).stream()
+      .map(task -> publish(TaskEventService.ALLOCATED, toResponse(task, null)))
+      .collect(Collectors.toMap(TaskResponseDto::getId, Function.identity()));
+
+    List<TaskAllocationResultDto> results = new ArrayList<>(allocations.size());
+    for (int i = 0; i < allocations.size(); i++) {
+      TaskAllocationDto allocation = allocations.get(i);
+      String error = errors.get(i);
+      results.add(new TaskAllocationResultDto(allocation.getTask_id(), allocation.getPerson_id(),
+        error == null ? responses.get(allocation.getTask_id()) : null, error));
+    }
+    return results;
+  }
+
+  @Transactional
+  public Optional<TaskResponseDto> claim(Long person_id) {
+    Optional<Person> optionalPerson = personRepository.findById(person_id);
+    if (!optionalPerson.isPresent()) {
+      throw new Error("Person not found");
+    }
+
+    Person person = optionalPerson.get();
+    if (person.getDepartment() == null) {
+      return Optional.empty();
+    }
+
+    List<Task> tasks = taskRepository.lockOldestTasksWithoutPerson(person.getDepartment().getId(), PageRequest.of(0, 1));
+    if (tasks.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Task task = tasks.get(0);
+    personRepository.incrementTaskAggregates(person.getId(), 1, task.getDuration());
+    task.setPerson(person);
+
+    return Optional.of(publish(TaskEventService.ALLOCATED, toResponse(taskRepository.save(task), null)));
+  }
+
+  @Transactional
+  public TaskResponseDto finishTask(Long id) {
     Optional<Task> optionalTask = taskRepository.findById(id);
     if (!optionalTask.isPresent()) {
       throw new Error("Task not found");
@@ -79,7 +326,27 @@ public class TaskService {
     Task task = optionalTask.get();
     task.setFinished(true);
 
-    return taskRepository.save(task);
+    return publish(TaskEventService.FINISHED, toResponse(taskRepository.save(task), null));
+  }
+
+  @Transactional
+  public TaskFinishResultDto finishAll(TaskFinishDto taskFinishDto) {
+    boolean hasIds = taskFinishDto.getIds() != null && !taskFinishDto.getIds().isEmpty();
+    boolean hasFilter = taskFinishDto.getDepartment_id() != null || taskFinishDto.getPerson_id() != null
+      || taskFinishDto.getDeadline_before() != null;
+    if (hasIds && hasFilter) {
+      throw new Error("Use either ids or filters");
+    }
+    if (!hasIds && !hasFilter) {
+      throw new Error("At least one filter is required");
+    }
+    if (hasIds && taskFinishDto.getIds().stream().anyMatch(Objects::isNull)) {
+      throw new Error("Task ids must not be null");
+    }
+
+    int finished = hasIds ? taskFinishRepository.finishByIds(Set.copyOf(taskFinishDto.getIds()))
+      : taskFinishRepository.finishMatching(taskFinishDto.getDepartment_id(), taskFinishDto.getPerson_id(), taskFinishDto.getDeadline_before());
+    return new TaskFinishResultDto(finished);
   }
 
   @Transactional
@@ -88,6 +355,80 @@ public class TaskService {
     if (!optionalTask.isPresent()) {
       throw new Error("Task not found");
     }
-    taskRepository.delete(optionalTask.get());
+
+    Task task = optionalTask.get();
+    if (task.getDepartment() != null) {
+      departmentRepository.incrementTasksCount(task.getDepartment().getId(), -1);
+    }
+    if (task.getPerson() != null) {
+      personRepository.incrementTaskAggregates(task.getPerson().getId(), -1, -task.getDuration());
+    }
+    taskRepository.delete(task);
+    publish(TaskEventService.DELETED, toResponse(task, null));
+  }
+
+  private TaskResponseDto publish(String type, TaskResponseDto task) {
+    eventPublisher.publishEvent(new TaskEventDto(type, task));
+    return task;
+  }
+
+  private void addAggregates(Map<Long, long[]> aggregates, Long personId, long count, long duration) {
+    long[] delta = aggregates.computeIfAbsent(personId, id -> new long[2]);
+    delta[0] += count;
+    delta[1] += duration;
+  }
+
+  private List<TaskResponseDto> toResponses(List<Task> tasks, List<String> expand) {
+    return tasks.stream().map(task -> toResponse(task, expand)).toList();
+  }
+
+  private TaskResponseDto toResponse(Task task, List<String> expand) {
+    Department department = task.getDepartment();
+    Person person = task.getPerson();
+
+    TaskResponseDto response = new TaskResponseDto(task.getId(), task.getTitle(), task.getDescription(), task.getDeadline(),
+      task.getDuration(), task.getFinished(), department == null ? null : department.getId(), person == null ? null : person.getId());
+
+    if (department != null && expand != null && expand.contains(EXPAND_DEPARTMENT)) {
+      response.setDepartment(new DepartmentSummaryDto(department.getId(), department.getTitle()));
+    }
+    if (person != null && expand != null && expand.contains(EXPAND_PERSON)) {
+      response.setPerson(new PersonSummaryDto(person.getId(), person.getName()));
+    }
+    return response;
+  }
+
+  private Sort toSort(String sort) {
+    if (sort == null || sort.isBlank()) {
+      return Sort.by(Sort.Direction.ASC, "id");
+    }
+
+    String[] parts = sort.split(",");
+    if (!SORTABLE_PROPERTIES.contains(parts[0]) || parts.length > 2) {
+      throw new Error("Invalid sort");
+    }
+    Sort.Direction direction = parts.length == 2 ? Sort.Direction.fromOptionalString(parts[1]).orElseThrow(() -> new Error("Invalid sort"))
+      : Sort.Direction.ASC;
+    if (parts[0].equals("id")) {
+      return Sort.by(direction, "id");
+    }
+    return Sort.by(direction, parts[0]).and(Sort.by(direction, "id"));
+  }
+
+  private String encodeCursor(Task task) {
+    String position = task.getDeadline().toString() + ":" + task.getId();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String[] decodeCursor(String cursor) {
+    try {
+      String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = position.split(":");
+      Date.valueOf(parts[0]);
+      Long.valueOf(parts[1]);
+      return parts;
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+      throw new Error("Invalid cursor");
+    }
   }
 }
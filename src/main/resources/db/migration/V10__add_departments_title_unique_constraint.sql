@@ -0,0 +1 @@
+ALTER TABLE departments ADD CONSTRAINT departments_title_key UNIQUE USING INDEX departments_title_key;
@@ -0,0 +1,6 @@
+DROP INDEX CONCURRENTLY IF EXISTS tasks_department_finished_deadline_idx;
+CREATE INDEX CONCURRENTLY tasks_department_finished_deadline_idx ON tasks (department_id, finished, deadline, id);
+DROP INDEX CONCURRENTLY IF EXISTS tasks_person_finished_deadline_idx;
+CREATE INDEX CONCURRENTLY tasks_person_finished_deadline_idx ON tasks (person_id, finished, deadline, id);
+DROP INDEX CONCURRENTLY IF EXISTS tasks_deadline_idx;
+CREATE INDEX CONCURRENTLY tasks_deadline_idx ON tasks (deadline, id);
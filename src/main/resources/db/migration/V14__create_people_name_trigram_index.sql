@@ -0,0 +1,2 @@
+DROP INDEX CONCURRENTLY IF EXISTS people_name_trgm_idx;
+CREATE INDEX CONCURRENTLY people_name_trgm_idx ON people USING GIN (name gin_trgm_ops);
@@ -0,0 +1,2 @@
+DROP INDEX CONCURRENTLY IF EXISTS tasks_search_idx;
+CREATE INDEX CONCURRENTLY tasks_search_idx ON tasks USING GIN (search_vector);
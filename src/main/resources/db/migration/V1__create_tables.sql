@@ -0,0 +1,35 @@
+CREATE SEQUENCE IF NOT EXISTS departments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS people_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE departments (
+  id BIGINT NOT NULL,
+  title VARCHAR(255) NOT NULL,
+  people_count BIGINT DEFAULT 0 NOT NULL,
+  tasks_count BIGINT DEFAULT 0 NOT NULL,
+  CONSTRAINT departments_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE people (
+  id BIGINT NOT NULL,
+  name VARCHAR(255) NOT NULL,
+  department_id BIGINT,
+  task_count BIGINT DEFAULT 0 NOT NULL,
+  duration_sum BIGINT DEFAULT 0 NOT NULL,
+  CONSTRAINT people_pkey PRIMARY KEY (id),
+  CONSTRAINT people_department_fkey FOREIGN KEY (department_id) REFERENCES departments (id)
+);
+
+CREATE TABLE tasks (
+  id BIGINT NOT NULL,
+  title VARCHAR(255) NOT NULL,
+  description VARCHAR(255) NOT NULL,
+  deadline DATE NOT NULL,
+  duration INTEGER NOT NULL,
+  finished BOOLEAN NOT NULL,
+  department_id BIGINT,
+  person_id BIGINT,
+  CONSTRAINT tasks_pkey PRIMARY KEY (id),
+  CONSTRAINT tasks_department_fkey FOREIGN KEY (department_id) REFERENCES departments (id),
+  CONSTRAINT tasks_person_fkey FOREIGN KEY (person_id) REFERENCES people (id)
+);
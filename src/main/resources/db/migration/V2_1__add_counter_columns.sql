@@ -0,0 +1,4 @@
+ALTER TABLE departments ADD COLUMN IF NOT EXISTS people_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE departments ADD COLUMN IF NOT EXISTS tasks_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE people ADD COLUMN IF NOT EXISTS task_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE people ADD COLUMN IF NOT EXISTS duration_sum BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS tasks_pending_idx ON tasks (deadline, id) WHERE person_id IS NULL;
@@ -0,0 +1,7 @@
+UPDATE departments d SET
+  people_count = (SELECT count(*) FROM people p WHERE p.department_id = d.id),
+  tasks_count = (SELECT count(*) FROM tasks t WHERE t.department_id = d.id);
+
+UPDATE people p SET
+  task_count = (SELECT count(*) FROM tasks t WHERE t.person_id = p.id),
+  duration_sum = (SELECT coalesce(sum(t.duration), 0) FROM tasks t WHERE t.person_id = p.id);
@@ -0,0 +1 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS tasks_claim_idx ON tasks (department_id, deadline, id) WHERE person_id IS NULL;
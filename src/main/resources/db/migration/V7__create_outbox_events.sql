@@ -0,0 +1,10 @@
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+  id BIGINT NOT NULL,
+  type VARCHAR(255) NOT NULL,
+  task_id BIGINT NOT NULL,
+  payload TEXT NOT NULL,
+  created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+  CONSTRAINT outbox_events_pkey PRIMARY KEY (id)
+);
@@ -0,0 +1,4 @@
+DROP INDEX CONCURRENTLY IF EXISTS people_department_idx;
+CREATE INDEX CONCURRENTLY people_department_idx ON people (department_id);
+DROP INDEX CONCURRENTLY IF EXISTS people_name_idx;
+CREATE INDEX CONCURRENTLY people_name_idx ON people (name);
@@ -0,0 +1,2 @@
+DROP INDEX CONCURRENTLY IF EXISTS departments_title_key;
+CREATE UNIQUE INDEX CONCURRENTLY departments_title_key ON departments (title);
@@ -0,0 +1,85 @@
+package com.api.taskmanagement.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class IdempotencyFilterTest {
+  private IdempotencyFilter idempotencyFilter;
+
+  private AtomicInteger executions;
+
+  // Answers with the address of the caller, so every response shows whose request produced it
+  private FilterChain filterChain;
+
+  @BeforeEach
+  void setUp() {
+    idempotencyFilter = new IdempotencyFilter(new SimpleMeterRegistry(), new MockEnvironment());
+    executions = new AtomicInteger();
+    filterChain = (request, response) -> {
+      executions.incrementAndGet();
+      ((HttpServletResponse) response).setStatus(HttpStatus.CREATED.value());
+      response.setContentType("application/json");
+      response.getWriter().write("{\"caller\":\"" + request.getRemoteAddr() + "\"}");
+    };
+  }
+
+  @Test
+  @DisplayName("two callers sending the same Idempotency-Key each get their own response")
+  void doFilter_KeepsResponsesApart_WhenTwoCallersSendTheSameKey() throws Exception {
+    MockHttpServletResponse first = send("10.0.0.1", "/people", null, "1");
+    MockHttpServletResponse second = send("10.0.0.2", "/people", null, "1");
+
+    Assertions.assertThat(executions.get()).isEqualTo(2);
+    Assertions.assertThat(first.getContentAsString()).isEqualTo("{\"caller\":\"10.0.0.1\"}");
+    Assertions.assertThat(second.getContentAsString()).isEqualTo("{\"caller\":\"10.0.0.2\"}");
+    Assertions.assertThat(second.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+    Assertions.assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+  }
+
+  @Test
+  @DisplayName("the same caller repeating an Idempotency-Key gets the stored response")
+  void doFilter_ReplaysStoredResponse_WhenTheSameCallerRepeatsTheKey() throws Exception {
+    send("10.0.0.1", "/people", null, "1");
+    MockHttpServletResponse retry = send("10.0.0.1", "/people", null, "1");
+
+    Assertions.assertThat(executions.get()).isEqualTo(1);
+    Assertions.assertThat(retry.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+    Assertions.assertThat(retry.getContentAsString()).isEqualTo("{\"caller\":\"10.0.0.1\"}");
+    Assertions.assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+  }
+
+  @Test
+  @DisplayName("the query string is part of the Idempotency-Key scope")
+  void doFilter_ExecutesAgain_WhenTheQueryStringDiffers() throws Exception {
+    send("10.0.0.1", "/tasks/claim", "department_id=1", "1");
+    MockHttpServletResponse other = send("10.0.0.1", "/tasks/claim", "department_id=2", "1");
+
+    Assertions.assertThat(executions.get()).isEqualTo(2);
+    Assertions.assertThat(other.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+  }
+
+  private MockHttpServletResponse send(String remoteAddress, String uri, String queryString, String key) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+    request.setRemoteAddr(remoteAddress);
+    request.setQueryString(queryString);
+    request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+    request.setContentType("application/json");
+    request.setContent("{\"name\":\"Alan\"}".getBytes(StandardCharsets.UTF_8));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    idempotencyFilter.doFilter(request, response, filterChain);
+    return response;
+  }
+}
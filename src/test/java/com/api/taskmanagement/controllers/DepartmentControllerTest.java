@@ -1,5 +1,6 @@
 package com.api.taskmanagement.controllers;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +15,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.api.taskmanagement.dtos.requests.DepartmentDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
+import com.api.taskmanagement.dtos.responses.DepartmentResponseDto;
 import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
 import com.api.taskmanagement.models.Department;
 import com.api.taskmanagement.services.DepartmentService;
@@ -37,13 +42,13 @@ public class DepartmentControllerTest {
       .thenReturn(List.of(listDepartment));
 
     BDDMockito.when(departmentServiceMock.findById(ArgumentMatchers.anyLong()))
-      .thenReturn(Optional.of(DepartmentCreator.createValidDepartment()));
+      .thenReturn(Optional.of(DepartmentCreator.createValidDepartmentResponse()));
 
     BDDMockito.when(departmentServiceMock.create(ArgumentMatchers.any(Department.class)))
-      .thenReturn(DepartmentCreator.createValidDepartment());
+      .thenReturn(DepartmentCreator.createValidDepartmentResponse());
     
     BDDMockito.when(departmentServiceMock.update(ArgumentMatchers.anyLong(), ArgumentMatchers.anyString()))
-      .thenReturn(DepartmentCreator.createValidUpdatedDepartment());
+      .thenReturn(DepartmentCreator.createValidUpdatedDepartmentResponse());
     
     BDDMockito.doNothing().when(departmentServiceMock).delete(ArgumentMatchers.anyLong());
   }
@@ -77,7 +82,7 @@ public class DepartmentControllerTest {
   void show_ReturnsDepartment_WhenSuccessful() {
     Long expectedId = DepartmentCreator.createValidDepartment().getId();
 
-    Optional<Department> department = departmentController.show(1L).getBody();
+    Optional<DepartmentResponseDto> department = departmentController.show(1L, new ServletWebRequest(new MockHttpServletRequest())).getBody();
 
     Assertions.assertThat(department).isNotNull().isPresent();
     Assertions.assertThat(department.get().getId()).isEqualTo(expectedId);
@@ -89,30 +94,45 @@ public class DepartmentControllerTest {
     BDDMockito.when(departmentServiceMock.findById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.empty());
 
-    Optional<Department> department = departmentController.show(1L).getBody();
+    Optional<DepartmentResponseDto> department = departmentController.show(1L, new ServletWebRequest(new MockHttpServletRequest())).getBody();
 
     Assertions.assertThat(department).isNotNull().isEmpty();
   }
 
+  @Test
+  @DisplayName("show returns not modified when the etag matches the current version")
+  void show_ReturnsNotModified_WhenEtagMatches() {
+    BDDMockito.when(departmentServiceMock.findVersionById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(new EntityVersionDto(3L, Instant.parse("2023-01-01T00:00:00Z"))));
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+    request.addHeader("If-None-Match", "\"3\"");
+
+    ResponseEntity<Optional<DepartmentResponseDto>> response = departmentController.show(1L, new ServletWebRequest(request));
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    Assertions.assertThat(response.getBody()).isNull();
+    BDDMockito.verify(departmentServiceMock, BDDMockito.never()).findById(ArgumentMatchers.anyLong());
+  }
+
   @Test
   @DisplayName("create returns department when successful")
   void create_ReturnsDepartment_WhenSuccessful() {
-    Department department = departmentController.create(new Department()).getBody();
+    DepartmentResponseDto department = departmentController.create(new Department()).getBody();
 
-    Assertions.assertThat(department).isNotNull().isEqualTo(DepartmentCreator.createValidDepartment());
+    Assertions.assertThat(department).isNotNull().isEqualTo(DepartmentCreator.createValidDepartmentResponse());
   }
 
   @Test
   @DisplayName("update returns department when successful")
   void update_ReturnsDepartment_WhenSuccessful() {
-    Department department = departmentController.create(new Department()).getBody();
+    DepartmentResponseDto department = departmentController.create(new Department()).getBody();
     
     BDDMockito.when(departmentServiceMock.create(ArgumentMatchers.any(Department.class)))
-      .thenReturn(DepartmentCreator.createValidUpdatedDepartment());
+      .thenReturn(DepartmentCreator.createValidUpdatedDepartmentResponse());
 
-    Department updatedDepartment = departmentController.update(1L, new DepartmentDto("Marketing")).getBody();
+    DepartmentResponseDto updatedDepartment = departmentController.update(1L, new DepartmentDto("Marketing")).getBody();
 
-    Assertions.assertThat(updatedDepartment).isNotNull().isEqualTo(DepartmentCreator.createValidUpdatedDepartment());
+    Assertions.assertThat(updatedDepartment).isNotNull().isEqualTo(DepartmentCreator.createValidUpdatedDepartmentResponse());
     Assertions.assertThat(updatedDepartment.getId()).isNotNull().isEqualTo(department.getId());
     Assertions.assertThat(updatedDepartment.getTitle()).isNotNull().isNotEqualTo(department.getTitle());
   }
@@ -1,5 +1,6 @@
 package com.api.taskmanagement.controllers;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,11 +15,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.api.taskmanagement.dtos.requests.PersonDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
 import com.api.taskmanagement.dtos.responses.ListPeopleDto;
 import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
+import com.api.taskmanagement.dtos.responses.PersonExpensesPageDto;
+import com.api.taskmanagement.dtos.responses.PersonResponseDto;
 import com.api.taskmanagement.models.Person;
 import com.api.taskmanagement.services.PersonService;
 import com.api.taskmanagement.util.PersonCreator;
@@ -36,20 +42,20 @@ public class PersonControllerTest {
     PersonExpensesDto personExpenses = new PersonExpensesDto(1L, "Alan", 2.0);
     ListPeopleDto listPeople = new ListPeopleDto(1L, "Alan", "Desenvolvimento", 10L);
 
-    BDDMockito.when(personServiceMock.findAllWithAvgDuration(ArgumentMatchers.anyString()))
-      .thenReturn(List.of(personExpenses));
+    BDDMockito.when(personServiceMock.findAllWithAvgDuration(ArgumentMatchers.anyString(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt()))
+      .thenReturn(new PersonExpensesPageDto(List.of(personExpenses), null));
 
     BDDMockito.when(personServiceMock.findAll())
       .thenReturn(List.of(listPeople));
 
     BDDMockito.when(personServiceMock.findById(ArgumentMatchers.anyLong()))
-      .thenReturn(Optional.of(PersonCreator.createValidPerson()));
+      .thenReturn(Optional.of(PersonCreator.createValidPersonResponse()));
 
     BDDMockito.when(personServiceMock.create(ArgumentMatchers.any(PersonDto.class)))
-      .thenReturn(PersonCreator.createValidPerson());
+      .thenReturn(PersonCreator.createValidPersonResponse());
 
     BDDMockito.when(personServiceMock.update(ArgumentMatchers.anyLong(), ArgumentMatchers.any(PersonDto.class)))
-      .thenReturn(PersonCreator.createValidUpdatedPerson());
+      .thenReturn(PersonCreator.createValidUpdatedPersonResponse());
     
     BDDMockito.doNothing().when(personServiceMock).delete(ArgumentMatchers.anyLong());
   }
@@ -82,7 +88,7 @@ public class PersonControllerTest {
   @DisplayName("listExpenses returns list of people with average task durations when successful") 
   void listExpenses_ReturnsListOfPeopleWithAverageTaskDurations_WhenSuccessful() {
     Person personSaved = PersonCreator.createValidPerson();
-    List<PersonExpensesDto> personExpenses = personController.listExpenses(personSaved.getName()).getBody();
+    List<PersonExpensesDto> personExpenses = personController.listExpenses(personSaved.getName(), 0, 20).getBody().getContent();
 
     Assertions.assertThat(personExpenses).isNotNull().isNotEmpty().hasSize(1);
     Assertions.assertThat(personExpenses.get(0).getId()).isEqualTo(personSaved.getId());
@@ -93,10 +99,10 @@ public class PersonControllerTest {
   @Test
   @DisplayName("listExpenses returns a empty list of people when is not found") 
   void listExpenses_ReturnsEmptyListOfPeople_WhenIsNotFound() {
-    BDDMockito.when(personServiceMock.findAllWithAvgDuration(ArgumentMatchers.anyString()))
-      .thenReturn(List.of());
+    BDDMockito.when(personServiceMock.findAllWithAvgDuration(ArgumentMatchers.anyString(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt()))
+      .thenReturn(new PersonExpensesPageDto(List.of(), null));
 
-    List<PersonExpensesDto> personExpenses = personController.listExpenses("Alan").getBody();
+    List<PersonExpensesDto> personExpenses = personController.listExpenses("Alan", 0, 20).getBody().getContent();
 
     Assertions.assertThat(personExpenses).isNotNull().isEmpty();
   }
@@ -106,7 +112,7 @@ public class PersonControllerTest {
   void show_ReturnsPerson_WhenSuccessful() {
     Long expectedId = PersonCreator.createValidPerson().getId();
 
-    Optional<Person> person = personController.show(1L).getBody();
+    Optional<PersonResponseDto> person = personController.show(1L, new ServletWebRequest(new MockHttpServletRequest())).getBody();
 
     Assertions.assertThat(person).isNotNull().isPresent();
     Assertions.assertThat(person.get().getId()).isEqualTo(expectedId);
@@ -118,27 +124,42 @@ public class PersonControllerTest {
     BDDMockito.when(personServiceMock.findById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.empty());
 
-    Optional<Person> person = personController.show(1L).getBody();
+    Optional<PersonResponseDto> person = personController.show(1L, new ServletWebRequest(new MockHttpServletRequest())).getBody();
 
     Assertions.assertThat(person).isNotNull().isEmpty();
   }
 
+  @Test
+  @DisplayName("show returns not modified when the etag matches the current version")
+  void show_ReturnsNotModified_WhenEtagMatches() {
+    BDDMockito.when(personServiceMock.findVersionById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(new EntityVersionDto(3L, Instant.parse("2023-01-01T00:00:00Z"))));
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+    request.addHeader("If-None-Match", "\"3\"");
+
+    ResponseEntity<Optional<PersonResponseDto>> response = personController.show(1L, new ServletWebRequest(request));
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    Assertions.assertThat(response.getBody()).isNull();
+    BDDMockito.verify(personServiceMock, BDDMockito.never()).findById(ArgumentMatchers.anyLong());
+  }
+
   @Test
   @DisplayName("create returns person when successful")
   void create_ReturnsPerson_WhenSuccessful() {
-    Person person = personController.create(new PersonDto("Alan", 1L)).getBody();
+    PersonResponseDto person = personController.create(new PersonDto("Alan", 1L)).getBody();
 
-    Assertions.assertThat(person).isNotNull().isEqualTo(PersonCreator.createValidPerson());
+    Assertions.assertThat(person).isNotNull().isEqualTo(PersonCreator.createValidPersonResponse());
   }
 
   @Test
   @DisplayName("update returns person when successful")
   void update_ReturnsPerson_WhenSuccessful() {
-    Person person = personController.create(new PersonDto("Alan", 1L)).getBody();
+    PersonResponseDto person = personController.create(new PersonDto("Alan", 1L)).getBody();
 
-    Person updatedPerson = personController.update(1L, new PersonDto("Rafael", 1L)).getBody();
+    PersonResponseDto updatedPerson = personController.update(1L, new PersonDto("Rafael", 1L)).getBody();
 
-    Assertions.assertThat(updatedPerson).isNotNull().isEqualTo(PersonCreator.createValidUpdatedPerson());
+    Assertions.assertThat(updatedPerson).isNotNull().isEqualTo(PersonCreator.createValidUpdatedPersonResponse());
     Assertions.assertThat(updatedPerson.getId()).isNotNull().isEqualTo(person.getId());
     Assertions.assertThat(updatedPerson.getName()).isNotNull().isNotEqualTo(person.getName());
   }
@@ -0,0 +1,68 @@
+package com.api.taskmanagement.controllers;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
+import com.api.taskmanagement.dtos.responses.ListPeopleDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.services.ReactiveReadService;
+import com.api.taskmanagement.util.TaskCreator;
+
+import reactor.core.publisher.Flux;
+
+@ExtendWith(SpringExtension.class)
+public class ReactiveReadControllerTest {
+  @InjectMocks
+  private ReactiveReadController reactiveReadController;
+
+  @Mock
+  private ReactiveReadService reactiveReadServiceMock;
+
+  @BeforeEach
+  void setUp() {
+    BDDMockito.when(reactiveReadServiceMock.findOldestTasksWithoutPerson(ArgumentMatchers.anyInt()))
+      .thenReturn(Flux.just(TaskCreator.createValidTaskResponse()));
+
+    BDDMockito.when(reactiveReadServiceMock.findAllPeople())
+      .thenReturn(Flux.just(new ListPeopleDto(1L, "Alan", "RH", 2L)));
+
+    BDDMockito.when(reactiveReadServiceMock.findAllDepartments())
+      .thenReturn(Flux.just(new ListDepartmentDto(1L, "RH", 1L, 1L)));
+  }
+
+  @Test
+  @DisplayName("pendingTasks returns a stream of pending tasks when successful")
+  void pendingTasks_ReturnsStreamOfPendingTasks_WhenSuccessful() {
+    List<TaskResponseDto> tasks = reactiveReadController.pendingTasks(3).collectList().block();
+
+    Assertions.assertThat(tasks).isNotNull().hasSize(1);
+    BDDMockito.verify(reactiveReadServiceMock).findOldestTasksWithoutPerson(3);
+  }
+
+  @Test
+  @DisplayName("people returns a stream of people when successful")
+  void people_ReturnsStreamOfPeople_WhenSuccessful() {
+    List<ListPeopleDto> people = reactiveReadController.people().collectList().block();
+
+    Assertions.assertThat(people).isNotNull().hasSize(1);
+  }
+
+  @Test
+  @DisplayName("departments returns a stream of departments when successful")
+  void departments_ReturnsStreamOfDepartments_WhenSuccessful() {
+    List<ListDepartmentDto> departments = reactiveReadController.departments().collectList().block();
+
+    Assertions.assertThat(departments).isNotNull().hasSize(1);
+  }
+}
@@ -1,5 +1,6 @@
 package com.api.taskmanagement.controllers;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,12 +14,28 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.api.taskmanagement.dtos.requests.AllocatePersonTaskDto;
+import com.api.taskmanagement.dtos.requests.TaskAllocationDto;
 import com.api.taskmanagement.dtos.requests.TaskDto;
+import com.api.taskmanagement.dtos.requests.TaskFilterDto;
+import com.api.taskmanagement.dtos.requests.TaskFinishDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
+import com.api.taskmanagement.dtos.responses.TaskAllocationResultDto;
+import com.api.taskmanagement.dtos.responses.TaskFinishResultDto;
+import com.api.taskmanagement.dtos.responses.TaskPageDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.dtos.responses.TaskSearchPageDto;
 import com.api.taskmanagement.models.Task;
+import com.api.taskmanagement.services.TaskEventService;
+import com.api.taskmanagement.services.TaskExportService;
 import com.api.taskmanagement.services.TaskService;
 import com.api.taskmanagement.util.PersonCreator;
 import com.api.taskmanagement.util.TaskCreator;
@@ -31,26 +48,41 @@ public class TaskControllerTest {
   @Mock
   private TaskService taskServiceMock;
 
+  @Mock
+  private TaskExportService taskExportServiceMock;
+
+  @Mock
+  private TaskEventService taskEventServiceMock;
+
   @BeforeEach
   void setUp() {
-    BDDMockito.when(taskServiceMock.findAll())
-      .thenReturn(List.of(TaskCreator.createValidTask()));
+    BDDMockito.when(taskServiceMock.findAll(ArgumentMatchers.any(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(), ArgumentMatchers.any()))
+      .thenReturn(List.of(TaskCreator.createValidTaskResponse()));
 
-    BDDMockito.when(taskServiceMock.findThreeOldestTasksWithoutPerson())
-      .thenReturn(List.of(TaskCreator.createValidTask()));
+    BDDMockito.when(taskServiceMock.findPage(ArgumentMatchers.any(), ArgumentMatchers.anyInt(), ArgumentMatchers.any()))
+      .thenReturn(new TaskPageDto(List.of(TaskCreator.createValidTaskResponse()), null));
 
-    BDDMockito.when(taskServiceMock.findById(ArgumentMatchers.anyLong()))
-      .thenReturn(Optional.of(TaskCreator.createValidTask()));
+    BDDMockito.when(taskServiceMock.findOldestTasksWithoutPerson(ArgumentMatchers.anyInt(), ArgumentMatchers.any()))
+      .thenReturn(List.of(TaskCreator.createValidTaskResponse()));
+
+    BDDMockito.when(taskServiceMock.search(ArgumentMatchers.anyString(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt()))
+      .thenReturn(new TaskSearchPageDto(List.of(TaskCreator.createValidTaskResponse()), null));
+
+    BDDMockito.when(taskServiceMock.findById(ArgumentMatchers.anyLong(), ArgumentMatchers.any()))
+      .thenReturn(Optional.of(TaskCreator.createValidTaskResponse()));
     
     BDDMockito.when(taskServiceMock.allocatePerson(ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong()))
-      .thenReturn(TaskCreator.createValidTaskWithPerson());
+      .thenReturn(TaskCreator.createValidTaskResponseWithPerson());
       
     BDDMockito.when(taskServiceMock.finishTask(ArgumentMatchers.anyLong()))
-      .thenReturn(TaskCreator.createValidUpdatedTask());
+      .thenReturn(TaskCreator.createValidUpdatedTaskResponse());
 
     BDDMockito.when(taskServiceMock.create(ArgumentMatchers.any(TaskDto.class)))
-      .thenReturn(TaskCreator.createValidTask());
+      .thenReturn(TaskCreator.createValidTaskResponse());
     
+    BDDMockito.when(taskServiceMock.createBatch(ArgumentMatchers.anyList()))
+      .thenReturn(List.of(TaskCreator.createValidTaskResponse()));
+
     BDDMockito.doNothing().when(taskServiceMock).delete(ArgumentMatchers.anyLong());
   }
 
@@ -59,7 +91,7 @@ public class TaskControllerTest {
   void list_ReturnsListOfTasks_WhenSuccessful() {
     Task task = TaskCreator.createValidTask();
 
-    List<Task> tasks = taskController.list().getBody();
+    List<TaskResponseDto> tasks = taskController.list(new TaskFilterDto(), 0, 20, null).getBody();
 
     Assertions.assertThat(tasks).isNotNull().isNotEmpty().hasSize(1);
     Assertions.assertThat(tasks.get(0).getTitle()).isEqualTo(task.getTitle());
@@ -72,18 +104,48 @@ public class TaskControllerTest {
   @Test
   @DisplayName("list returns a empty list of tasks when is not found") 
   void list_ReturnsEmptyListOfTasks_WhenIsNotFound() {
-    BDDMockito.when(taskServiceMock.findAll())
+    BDDMockito.when(taskServiceMock.findAll(ArgumentMatchers.any(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(), ArgumentMatchers.any()))
       .thenReturn(List.of());
 
-    List<Task> tasks = taskController.list().getBody();
+    List<TaskResponseDto> tasks = taskController.list(new TaskFilterDto(), 0, 20, null).getBody();
 
     Assertions.assertThat(tasks).isNotNull().isEmpty();
   }
 
+  @Test
+  @DisplayName("page returns a page of tasks when successful")
+  void page_ReturnsPageOfTasks_WhenSuccessful() {
+    TaskPageDto page = taskController.page(null, 20, null).getBody();
+
+    Assertions.assertThat(page).isNotNull();
+    Assertions.assertThat(page.getContent()).isNotEmpty().hasSize(1);
+    Assertions.assertThat(page.getNext_cursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("search returns a page of matching tasks when successful")
+  void search_ReturnsPageOfTasks_WhenSuccessful() {
+    TaskSearchPageDto page = taskController.search("Task", 0, 20).getBody();
+
+    Assertions.assertThat(page).isNotNull();
+    Assertions.assertThat(page.getContent()).hasSize(1);
+    Assertions.assertThat(page.getNext_page()).isNull();
+  }
+
+  @Test
+  @DisplayName("export returns a ndjson streaming body when successful")
+  void export_ReturnsNdjsonStreamingBody_WhenSuccessful() {
+    ResponseEntity<StreamingResponseBody> entity = taskController.export();
+
+    Assertions.assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(entity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+    Assertions.assertThat(entity.getBody()).isNotNull();
+  }
+
   @Test
   @DisplayName("pendingTasks returns list of tasks when successful") 
   void pendingTasks_ReturnsListOfTasks_WhenSuccessful() {
-    List<Task> tasks = taskController.pendingTasks().getBody();
+    List<TaskResponseDto> tasks = taskController.pendingTasks(3, null).getBody();
 
     Assertions.assertThat(tasks).isNotNull().isNotEmpty().hasSize(1);
   }
@@ -91,10 +153,10 @@ public class TaskControllerTest {
   @Test
   @DisplayName("pendingTasks returns a empty list of tasks when not found") 
   void pendingTasks_ReturnsEmptyListOfTasks_WhenNotFound() {
-    BDDMockito.when(taskServiceMock.findThreeOldestTasksWithoutPerson())
+    BDDMockito.when(taskServiceMock.findOldestTasksWithoutPerson(ArgumentMatchers.anyInt(), ArgumentMatchers.any()))
       .thenReturn(List.of());
 
-    List<Task> tasks = taskController.pendingTasks().getBody(); 
+    List<TaskResponseDto> tasks = taskController.pendingTasks(3, null).getBody(); 
 
     Assertions.assertThat(tasks).isNotNull().isEmpty();;
   }
@@ -104,7 +166,7 @@ public class TaskControllerTest {
   void show_ReturnsTask_WhenSuccessful() {
     Long expectedId = TaskCreator.createValidTask().getId();
 
-    Optional<Task> task = taskController.show(1L).getBody();
+    Optional<TaskResponseDto> task = taskController.show(1L, null, new ServletWebRequest(new MockHttpServletRequest())).getBody();
 
     Assertions.assertThat(task).isNotNull().isPresent();
     Assertions.assertThat(task.get().getId()).isEqualTo(expectedId);
@@ -113,45 +175,120 @@ public class TaskControllerTest {
   @Test
   @DisplayName("show returns nothing when is not found") 
   void show_ReturnsNothing_WhenNotFound() {
-    BDDMockito.when(taskServiceMock.findById(ArgumentMatchers.anyLong()))
+    BDDMockito.when(taskServiceMock.findById(ArgumentMatchers.anyLong(), ArgumentMatchers.any()))
       .thenReturn(Optional.empty());
 
-    Optional<Task> task = taskController.show(1L).getBody();
+    Optional<TaskResponseDto> task = taskController.show(1L, null, new ServletWebRequest(new MockHttpServletRequest())).getBody();
 
     Assertions.assertThat(task).isNotNull().isEmpty();
   }
 
+  @Test
+  @DisplayName("show returns not modified when the etag matches the current version")
+  void show_ReturnsNotModified_WhenEtagMatches() {
+    BDDMockito.when(taskServiceMock.findVersionById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(new EntityVersionDto(3L, Instant.parse("2023-01-01T00:00:00Z"))));
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+    request.addHeader("If-None-Match", "\"3\"");
+
+    ResponseEntity<Optional<TaskResponseDto>> response = taskController.show(1L, null, new ServletWebRequest(request));
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    Assertions.assertThat(response.getBody()).isNull();
+    BDDMockito.verify(taskServiceMock, BDDMockito.never()).findById(ArgumentMatchers.anyLong(), ArgumentMatchers.any());
+  }
+
   @Test
   @DisplayName("create returns task when successful")
   void create_ReturnsTask_WhenSuccessful() {
-    Task task = taskController.create(new TaskDto()).getBody();
+    TaskResponseDto task = taskController.create(new TaskDto()).getBody();
+
+    Assertions.assertThat(task).isNotNull().isEqualTo(TaskCreator.createValidTaskResponse());
+  }
+
+  @Test
+  @DisplayName("createBatch returns created tasks when successful")
+  void createBatch_ReturnsCreatedTasks_WhenSuccessful() {
+    ResponseEntity<List<TaskResponseDto>> entity = taskController.createBatch(List.of(new TaskDto()));
 
-    Assertions.assertThat(task).isNotNull().isEqualTo(TaskCreator.createValidTask());
+    Assertions.assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    Assertions.assertThat(entity.getBody()).isNotNull().hasSize(1);
+  }
+
+  @Test
+  @DisplayName("claim returns the claimed task when a pending task is available")
+  void claim_ReturnsTask_WhenPendingTaskIsAvailable() {
+    BDDMockito.when(taskServiceMock.claim(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(TaskCreator.createValidTaskResponseWithPerson()));
+
+    ResponseEntity<TaskResponseDto> response = taskController.claim(new AllocatePersonTaskDto(1L));
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(response.getBody()).isEqualTo(TaskCreator.createValidTaskResponseWithPerson());
+  }
+
+  @Test
+  @DisplayName("claim returns no content when there is no pending task")
+  void claim_ReturnsNoContent_WhenThereIsNoPendingTask() {
+    BDDMockito.when(taskServiceMock.claim(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.empty());
+
+    ResponseEntity<TaskResponseDto> response = taskController.claim(new AllocatePersonTaskDto(1L));
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    Assertions.assertThat(response.getBody()).isNull();
+  }
+
+  @Test
+  @DisplayName("allocateBatch returns one result per pair when successful")
+  void allocateBatch_ReturnsOneResultPerPair_WhenSuccessful() {
+    BDDMockito.when(taskServiceMock.allocateBatch(ArgumentMatchers.anyList()))
+      .thenReturn(List.of(new TaskAllocationResultDto(1L, 1L, TaskCreator.createValidTaskResponseWithPerson(), null),
+        new TaskAllocationResultDto(2L, 1L, null, "Task not found")));
+
+    ResponseEntity<List<TaskAllocationResultDto>> response = taskController.allocateBatch(
+      List.of(new TaskAllocationDto(1L, 1L), new TaskAllocationDto(2L, 1L)));
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(response.getBody()).extracting(TaskAllocationResultDto::getError).containsExactly(null, "Task not found");
   }
 
   @Test
   @DisplayName("allocatePerson returns task when successful")
   void allocatePerson_ReturnsTask_WhenSuccessful() {
-    Task task = taskController.create(new TaskDto()).getBody();
+    TaskResponseDto task = taskController.create(new TaskDto()).getBody();
 
-    Task updatedTask = taskController.allocatePerson(1L, new AllocatePersonTaskDto(1L)).getBody();
+    TaskResponseDto updatedTask = taskController.allocatePerson(1L, new AllocatePersonTaskDto(1L)).getBody();
 
     Assertions.assertThat(updatedTask.getId()).isNotNull().isEqualTo(task.getId());
-    Assertions.assertThat(updatedTask.getPerson()).isNotNull().isEqualTo(PersonCreator.createValidPerson());
+    Assertions.assertThat(updatedTask.getPerson_id()).isNotNull().isEqualTo(PersonCreator.createValidPerson().getId());
   }
 
   @Test
   @DisplayName("finishTask returns task when successful")
   void finishTask_ReturnsTask_WhenSuccessful() {
-    Task task = taskController.create(new TaskDto()).getBody();
+    TaskResponseDto task = taskController.create(new TaskDto()).getBody();
 
-    Task updatedTask = taskController.finishTask(1L).getBody();
+    TaskResponseDto updatedTask = taskController.finishTask(1L).getBody();
 
-    Assertions.assertThat(updatedTask).isNotNull().isEqualTo(TaskCreator.createValidUpdatedTask());
+    Assertions.assertThat(updatedTask).isNotNull().isEqualTo(TaskCreator.createValidUpdatedTaskResponse());
     Assertions.assertThat(updatedTask.getId()).isNotNull().isEqualTo(task.getId());
     Assertions.assertThat(updatedTask.getFinished()).isNotNull().isEqualTo(true);
   }
 
+
+  @Test
+  @DisplayName("finishAll returns the number of finished tasks when successful")
+  void finishAll_ReturnsFinishedCount_WhenSuccessful() {
+    BDDMockito.when(taskServiceMock.finishAll(ArgumentMatchers.any(TaskFinishDto.class)))
+      .thenReturn(new TaskFinishResultDto(3));
+
+    ResponseEntity<TaskFinishResultDto> response = taskController.finishAll(new TaskFinishDto(List.of(1L, 2L, 3L), null, null, null));
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(response.getBody().getFinished()).isEqualTo(3);
+  }
+
   @Test
   @DisplayName("delete removes task when successful")
   void delete_RemovesTask_WhenSuccessful() {
@@ -163,4 +300,13 @@ public class TaskControllerTest {
     Assertions.assertThat(entity.getBody()).isNotNull().isEqualTo("Task deleted successfully");
     Assertions.assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
   }
+
+  @Test
+  @DisplayName("events returns the emitter subscribed with the given filters")
+  void events_ReturnsSubscribedEmitter_WhenSuccessful() {
+    SseEmitter emitter = new SseEmitter();
+    BDDMockito.when(taskEventServiceMock.subscribe(1L, null)).thenReturn(emitter);
+
+    Assertions.assertThat(taskController.events(1L, null)).isSameAs(emitter);
+  }
 }
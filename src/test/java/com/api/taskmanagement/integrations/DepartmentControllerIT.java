@@ -1,7 +1,14 @@
 package com.api.taskmanagement.integrations;
 
+import java.sql.Date;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -13,15 +20,22 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 
 import com.api.taskmanagement.dtos.requests.DepartmentDto;
+import com.api.taskmanagement.dtos.requests.PersonDto;
+import com.api.taskmanagement.dtos.requests.TaskDto;
+import com.api.taskmanagement.dtos.responses.DepartmentResponseDto;
 import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
+import com.api.taskmanagement.dtos.responses.PersonResponseDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
 import com.api.taskmanagement.models.*;
 import com.api.taskmanagement.repositories.*;
+import com.api.taskmanagement.services.DepartmentCacheService;
 import com.api.taskmanagement.util.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -39,6 +53,8 @@ public class DepartmentControllerIT {
   private PersonRepository personRepository;
   @Autowired
   private TaskRepository taskRepository;
+  @Autowired
+  private DepartmentCacheService departmentCacheService;
   
   @Test
   @DisplayName("list returns list of department with count people and count task when successful") 
@@ -46,21 +62,40 @@ public class DepartmentControllerIT {
     Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
     String expectedTitle = savedDepartment.getTitle();
 
-    Person savedPerson = personRepository.save(PersonCreator.createPersonToBeSaved());
-    savedPerson.setDepartment(savedDepartment);
-    personRepository.save(savedPerson);
-
-    Task savedTask = taskRepository.save(TaskCreator.createTaskToBeSaved());
-    savedTask.setDepartment(savedDepartment);
-    taskRepository.save(savedTask);
+    testRestTemplate.postForEntity("/people", new PersonDto("Alan", savedDepartment.getId()), String.class);
+    testRestTemplate.postForEntity("/people", new PersonDto("Rafael", savedDepartment.getId()), String.class);
+    testRestTemplate.postForEntity("/tasks", new TaskDto("Task A", "A Task", Date.valueOf("2022-12-30"), 2, false, savedDepartment.getId(), null), String.class);
 
     List<ListDepartmentDto> departments = testRestTemplate.exchange("/departments", HttpMethod.GET, null, 
       new ParameterizedTypeReference<List<ListDepartmentDto>>() {}).getBody();
 
     Assertions.assertThat(departments).isNotNull().isNotEmpty().hasSize(1);
     Assertions.assertThat(departments.get(0).getTitle()).isEqualTo(expectedTitle);
+    Assertions.assertThat(departments.get(0).getCount_people()).isEqualTo(2L);
+    Assertions.assertThat(departments.get(0).getCount_tasks()).isEqualTo(1L);
   }
   
+  @Test
+  @DisplayName("list keeps counters in sync when people and tasks are deleted")
+  void list_KeepsCountersInSync_WhenPeopleAndTasksAreDeleted() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+
+    PersonResponseDto createdPerson = testRestTemplate.postForEntity("/people", new PersonDto("Alan", savedDepartment.getId()), PersonResponseDto.class).getBody();
+    testRestTemplate.postForEntity("/people", new PersonDto("Rafael", savedDepartment.getId()), String.class);
+    TaskResponseDto createdTask = testRestTemplate.postForEntity("/tasks", new TaskDto("Task A", "A Task", Date.valueOf("2022-12-30"), 2, false, savedDepartment.getId(), null), TaskResponseDto.class).getBody();
+    testRestTemplate.postForEntity("/tasks", new TaskDto("Task B", "A Task", Date.valueOf("2022-12-30"), 2, false, savedDepartment.getId(), null), String.class);
+
+    testRestTemplate.delete("/people/{id}", createdPerson.getId());
+    testRestTemplate.delete("/tasks/{id}", createdTask.getId());
+
+    List<ListDepartmentDto> departments = testRestTemplate.exchange("/departments", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<List<ListDepartmentDto>>() {}).getBody();
+
+    Assertions.assertThat(departments).hasSize(1);
+    Assertions.assertThat(departments.get(0).getCount_people()).isEqualTo(1L);
+    Assertions.assertThat(departments.get(0).getCount_tasks()).isEqualTo(1L);
+  }
+
   @Test
   @DisplayName("list returns a empty list of department when is not found")  
   void list_ReturnsListOfDepartmentsWithCountPeopleANdTask_WhenNotFound() {
@@ -76,8 +111,8 @@ public class DepartmentControllerIT {
     Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
     Long expectedId = savedDepartment.getId();
 
-    Optional<Department> department = testRestTemplate.exchange("/departments/{id}", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<Optional<Department>>() {}, expectedId).getBody();
+    Optional<DepartmentResponseDto> department = testRestTemplate.exchange("/departments/{id}", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<Optional<DepartmentResponseDto>>() {}, expectedId).getBody();
 
     Assertions.assertThat(department).isNotNull().isPresent();
     Assertions.assertThat(department.get().getId()).isEqualTo(expectedId);
@@ -86,16 +121,34 @@ public class DepartmentControllerIT {
   @Test
   @DisplayName("show returns nothing when not found") 
   void show_ReturnsNothing_WhenNotFound() {
-    Optional<Department> department = testRestTemplate.exchange("/departments/{id}", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<Optional<Department>>() {}, 1L).getBody();
+    Optional<DepartmentResponseDto> department = testRestTemplate.exchange("/departments/{id}", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<Optional<DepartmentResponseDto>>() {}, 1L).getBody();
       
     Assertions.assertThat(department).isNotNull().isEmpty();
   }
 
+  @Test
+  @DisplayName("show returns a new etag when the department counters change")
+  void show_ReturnsNewEtag_WhenCountersChange() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+
+    String etag = testRestTemplate.getForEntity("/departments/{id}", String.class, savedDepartment.getId()).getHeaders().getETag();
+    testRestTemplate.postForEntity("/people", new PersonDto("Alan", savedDepartment.getId()), String.class);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch(etag);
+    ResponseEntity<DepartmentResponseDto> changed = testRestTemplate.exchange("/departments/{id}", HttpMethod.GET, new HttpEntity<>(headers),
+      DepartmentResponseDto.class, savedDepartment.getId());
+
+    Assertions.assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+    Assertions.assertThat(changed.getBody().getCount_people()).isEqualTo(1L);
+  }
+
   @Test
   @DisplayName("create returns department when successful")
   void create_ReturnsDepartment_WhenSuccessful() {
-    ResponseEntity<Department> departmentResponseEntity = testRestTemplate.postForEntity("/departments", DepartmentCreator.createDepartmentToBeSaved(), Department.class);
+    ResponseEntity<DepartmentResponseDto> departmentResponseEntity = testRestTemplate.postForEntity("/departments", DepartmentCreator.createDepartmentToBeSaved(), DepartmentResponseDto.class);
 
     Assertions.assertThat(departmentResponseEntity).isNotNull();
     Assertions.assertThat(departmentResponseEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
@@ -103,6 +156,27 @@ public class DepartmentControllerIT {
     Assertions.assertThat(departmentResponseEntity.getBody().getId()).isNotNull();
   }
 
+  @Test
+  @DisplayName("create returns the same department to concurrent requests with the same title")
+  void create_ReturnsSameDepartment_WhenTitleIsPostedConcurrently() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<ResponseEntity<DepartmentResponseDto>>> responses = executor.invokeAll(Collections.nCopies(8,
+        () -> testRestTemplate.postForEntity("/departments", DepartmentCreator.createDepartmentToBeSaved(), DepartmentResponseDto.class)));
+
+      Set<Long> ids = new HashSet<>();
+      for (Future<ResponseEntity<DepartmentResponseDto>> response : responses) {
+        Assertions.assertThat(response.get().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        ids.add(response.get().getBody().getId());
+      }
+
+      Assertions.assertThat(ids).hasSize(1);
+      Assertions.assertThat(departmentRepository.count()).isEqualTo(1);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   @DisplayName("update returns department when successful")
   void update_ReturnsDepartment_WhenSuccessful() {
@@ -111,7 +185,7 @@ public class DepartmentControllerIT {
 
     String url = String.format("/departments/%s", savedDepartment.getId());
 
-    ResponseEntity<Department> departmentResponseEntity = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(requestBody), Department.class);
+    ResponseEntity<DepartmentResponseDto> departmentResponseEntity = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(requestBody), DepartmentResponseDto.class);
     
     Assertions.assertThat(departmentResponseEntity).isNotNull();
     Assertions.assertThat(departmentResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -120,6 +194,31 @@ public class DepartmentControllerIT {
     Assertions.assertThat(departmentResponseEntity.getBody().getTitle()).isNotNull().isEqualTo(requestBody.getTitle());
   }
 
+  @Test
+  @DisplayName("update evicts the cached department after the title is committed")
+  void update_EvictsCachedDepartment_WhenCommitted() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    departmentCacheService.findById(savedDepartment.getId());
+
+    testRestTemplate.exchange("/departments/{id}", HttpMethod.PUT, new HttpEntity<>(new DepartmentDto("Marketing")), DepartmentResponseDto.class, savedDepartment.getId());
+
+    Assertions.assertThat(departmentCacheService.findById(savedDepartment.getId()).get().getTitle()).isEqualTo("Marketing");
+  }
+
+  @Test
+  @DisplayName("update frees the previous title so it can be used again")
+  void update_FreesPreviousTitle_WhenSuccessful() {
+    ResponseEntity<DepartmentResponseDto> createdEntity = testRestTemplate.postForEntity("/departments", DepartmentCreator.createDepartmentToBeSaved(), DepartmentResponseDto.class);
+    ResponseEntity<DepartmentResponseDto> duplicatedEntity = testRestTemplate.postForEntity("/departments", DepartmentCreator.createDepartmentToBeSaved(), DepartmentResponseDto.class);
+
+    testRestTemplate.exchange("/departments/{id}", HttpMethod.PUT, new HttpEntity<>(new DepartmentDto("Marketing")), DepartmentResponseDto.class, createdEntity.getBody().getId());
+    ResponseEntity<DepartmentResponseDto> recreatedEntity = testRestTemplate.postForEntity("/departments", DepartmentCreator.createDepartmentToBeSaved(), DepartmentResponseDto.class);
+
+    Assertions.assertThat(duplicatedEntity.getBody().getId()).isEqualTo(createdEntity.getBody().getId());
+    Assertions.assertThat(recreatedEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    Assertions.assertThat(recreatedEntity.getBody().getId()).isNotEqualTo(createdEntity.getBody().getId());
+  }
+
   @Test
   @DisplayName("delete removes department when successful")
   void delete_RemovesDepartment_WhenSuccessful() {
@@ -13,14 +13,19 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 
+import com.api.taskmanagement.config.IdempotencyFilter;
+import com.api.taskmanagement.dtos.requests.AllocatePersonTaskDto;
 import com.api.taskmanagement.dtos.requests.PersonDto;
 import com.api.taskmanagement.dtos.responses.ListPeopleDto;
 import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
+import com.api.taskmanagement.dtos.responses.PersonExpensesPageDto;
+import com.api.taskmanagement.dtos.responses.PersonResponseDto;
 import com.api.taskmanagement.models.*;
 import com.api.taskmanagement.repositories.*;
 import com.api.taskmanagement.util.*;
@@ -52,8 +57,8 @@ public class PersonControllerIT {
 
     Task savedTask = taskRepository.save(TaskCreator.createTaskToBeSaved());
     savedTask.setDepartment(savedDepartment);
-    savedTask.setPerson(savedPerson);
     taskRepository.save(savedTask);
+    allocate(savedTask, savedPerson);
     
     String expectedName = savedPerson.getName();
 
@@ -78,17 +83,20 @@ public class PersonControllerIT {
   @Test
   @DisplayName("listExpenses returns list of people with average task durations when successful") 
   void listExpenses_ReturnsListOfPeopleWithAverageTaskDurations_WhenSuccessful() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+
     Person savedPerson = personRepository.save(PersonCreator.createPersonToBeSaved());
+    savedPerson.setDepartment(savedDepartment);
     personRepository.save(savedPerson);
 
     Task savedTask = taskRepository.save(TaskCreator.createTaskToBeSaved());
-    savedTask.setPerson(savedPerson);
+    savedTask.setDepartment(savedDepartment);
     taskRepository.save(savedTask);
+    allocate(savedTask, savedPerson);
 
     String url = String.format("/people/expenses?name=%s", savedPerson.getName());
 
-    List<PersonExpensesDto> personExpenses = testRestTemplate.exchange(url, HttpMethod.GET, null, 
-      new ParameterizedTypeReference<List<PersonExpensesDto>>() {}).getBody();
+    List<PersonExpensesDto> personExpenses = testRestTemplate.getForObject(url, PersonExpensesPageDto.class).getContent();
 
     Assertions.assertThat(personExpenses).isNotNull().isNotEmpty().hasSize(1);
     Assertions.assertThat(personExpenses.get(0).getId()).isEqualTo(savedPerson.getId());
@@ -96,11 +104,62 @@ public class PersonControllerIT {
     Assertions.assertThat(personExpenses.get(0).getAvg_duration()).isEqualTo(Double.valueOf(savedTask.getDuration()));
   }
 
+  @Test
+  @DisplayName("list moves task durations between people when a task is reallocated or deleted") 
+  void list_MovesTaskDurations_WhenTaskIsReallocatedOrDeleted() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+
+    Person firstPerson = personRepository.save(Person.builder().name("Alan").department(savedDepartment).build());
+    Person secondPerson = personRepository.save(Person.builder().name("Rafael").department(savedDepartment).build());
+
+    Task firstTask = TaskCreator.createTaskToBeSaved();
+    firstTask.setDepartment(savedDepartment);
+    firstTask.setDuration(3);
+    firstTask = taskRepository.save(firstTask);
+
+    Task secondTask = TaskCreator.createTaskToBeSaved();
+    secondTask.setDepartment(savedDepartment);
+    secondTask.setDuration(5);
+    secondTask = taskRepository.save(secondTask);
+
+    allocate(firstTask, firstPerson);
+    allocate(secondTask, firstPerson);
+    allocate(secondTask, secondPerson);
+    allocate(secondTask, secondPerson);
+    testRestTemplate.delete("/tasks/{id}", firstTask.getId());
+
+    List<ListPeopleDto> listPeople = testRestTemplate.exchange("/people", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<List<ListPeopleDto>>() {}).getBody();
+
+    Assertions.assertThat(listPeople).hasSize(1);
+    Assertions.assertThat(listPeople.get(0).getId()).isEqualTo(secondPerson.getId());
+    Assertions.assertThat(listPeople.get(0).getSum_duration()).isEqualTo(5L);
+  }
+
+  @Test
+  @DisplayName("listExpenses matches people by name prefix and paginates the aggregates")
+  void listExpenses_MatchesPrefixAndPaginates_WhenSuccessful() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    for (String name : List.of("Alan", "Alice", "Allan", "Bruno")) {
+      Person savedPerson = personRepository.save(Person.builder().name(name).department(savedDepartment).build());
+      Task savedTask = TaskCreator.createTaskToBeSaved();
+      savedTask.setDepartment(savedDepartment);
+      allocate(taskRepository.save(savedTask), savedPerson);
+    }
+
+    PersonExpensesPageDto firstPage = testRestTemplate.getForObject("/people/expenses?name=al&size=2", PersonExpensesPageDto.class);
+    PersonExpensesPageDto secondPage = testRestTemplate.getForObject("/people/expenses?name=al&size=2&page={page}", PersonExpensesPageDto.class,
+      firstPage.getNext_page());
+
+    Assertions.assertThat(firstPage.getContent()).extracting(PersonExpensesDto::getName).containsExactly("Alan", "Alice");
+    Assertions.assertThat(secondPage.getContent()).extracting(PersonExpensesDto::getName).containsExactly("Allan");
+    Assertions.assertThat(secondPage.getNext_page()).isNull();
+  }
+
   @Test
   @DisplayName("listExpenses returns a empty list of people when is not found") 
   void listExpenses_ReturnsEmptyListOfPeople_WhenIsNotFound() {
-    List<PersonExpensesDto> personExpenses = testRestTemplate.exchange("/people/expenses?name=Alan", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<List<PersonExpensesDto>>() {}).getBody();
+    List<PersonExpensesDto> personExpenses = testRestTemplate.getForObject("/people/expenses?name=Alan", PersonExpensesPageDto.class).getContent();
 
     Assertions.assertThat(personExpenses).isNotNull().isEmpty();
   }
@@ -111,8 +170,8 @@ public class PersonControllerIT {
     Person savedPerson = personRepository.save(PersonCreator.createPersonToBeSaved());
     Long expectedId = savedPerson.getId();
 
-    Optional<Person> person = testRestTemplate.exchange("/people/{id}", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<Optional<Person>>() {}, expectedId).getBody();
+    Optional<PersonResponseDto> person = testRestTemplate.exchange("/people/{id}", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<Optional<PersonResponseDto>>() {}, expectedId).getBody();
 
     Assertions.assertThat(person).isNotNull().isPresent();
     Assertions.assertThat(person.get().getId()).isEqualTo(expectedId);
@@ -121,8 +180,8 @@ public class PersonControllerIT {
   @Test
   @DisplayName("show returns nothing when is not found") 
   void show_ReturnsNothing_WhenNotFound() {
-    Optional<Person> person = testRestTemplate.exchange("/people/{id}", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<Optional<Person>>() {}, 1L).getBody();
+    Optional<PersonResponseDto> person = testRestTemplate.exchange("/people/{id}", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<Optional<PersonResponseDto>>() {}, 1L).getBody();
 
     Assertions.assertThat(person).isNotNull().isEmpty();
   }
@@ -133,7 +192,7 @@ public class PersonControllerIT {
     Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
     PersonDto requestBody = new PersonDto("Alan", savedDepartment.getId());
 
-    ResponseEntity<Person> personResponseEntity = testRestTemplate.postForEntity("/people", requestBody, Person.class);
+    ResponseEntity<PersonResponseDto> personResponseEntity = testRestTemplate.postForEntity("/people", requestBody, PersonResponseDto.class);
 
     Assertions.assertThat(personResponseEntity).isNotNull();
     Assertions.assertThat(personResponseEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
@@ -141,6 +200,44 @@ public class PersonControllerIT {
     Assertions.assertThat(personResponseEntity.getBody().getId()).isNotNull();
   }
 
+  @Test
+  @DisplayName("create replays the first response when the Idempotency-Key is repeated")
+  void create_ReplaysFirstResponse_WhenIdempotencyKeyIsRepeated() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "person-alan");
+    HttpEntity<PersonDto> request = new HttpEntity<>(new PersonDto("Alan", savedDepartment.getId()), headers);
+
+    ResponseEntity<PersonResponseDto> first = testRestTemplate.postForEntity("/people", request, PersonResponseDto.class);
+    ResponseEntity<PersonResponseDto> retry = testRestTemplate.postForEntity("/people", request, PersonResponseDto.class);
+    ResponseEntity<PersonResponseDto> other = testRestTemplate.postForEntity("/people", new PersonDto("Alan", savedDepartment.getId()), PersonResponseDto.class);
+
+    Assertions.assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    Assertions.assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    Assertions.assertThat(retry.getHeaders().getFirst(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    Assertions.assertThat(retry.getBody()).isEqualTo(first.getBody());
+    Assertions.assertThat(other.getBody().getId()).isNotEqualTo(first.getBody().getId());
+    Assertions.assertThat(personRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("create returns 422 when the Idempotency-Key is reused with a different body")
+  void create_ReturnsUnprocessableEntity_WhenIdempotencyKeyIsReusedWithDifferentBody() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "person-reused");
+
+    ResponseEntity<PersonResponseDto> first = testRestTemplate.postForEntity("/people",
+      new HttpEntity<>(new PersonDto("Alan", savedDepartment.getId()), headers), PersonResponseDto.class);
+    ResponseEntity<String> reused = testRestTemplate.postForEntity("/people",
+      new HttpEntity<>(new PersonDto("Rafael", savedDepartment.getId()), headers), String.class);
+
+    Assertions.assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    Assertions.assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    Assertions.assertThat(reused.getHeaders().getFirst(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    Assertions.assertThat(personRepository.count()).isEqualTo(1);
+  }
+
   @Test
   @DisplayName("update returns person when successful")
   void update_ReturnsPerson_WhenSuccessful() {
@@ -151,7 +248,7 @@ public class PersonControllerIT {
 
     String url = String.format("/people/%s", savedPerson.getId());
     
-    ResponseEntity<Person> personResponseEntity = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(requestBody), Person.class);
+    ResponseEntity<PersonResponseDto> personResponseEntity = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(requestBody), PersonResponseDto.class);
 
     Assertions.assertThat(personResponseEntity);
     Assertions.assertThat(personResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -172,4 +269,9 @@ public class PersonControllerIT {
     Assertions.assertThat(personResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
   }
 
+
+  private void allocate(Task task, Person person) {
+    testRestTemplate.exchange("/tasks/allocate/{id}", HttpMethod.PUT,
+      new HttpEntity<>(new AllocatePersonTaskDto(person.getId())), String.class, task.getId());
+  }
 }
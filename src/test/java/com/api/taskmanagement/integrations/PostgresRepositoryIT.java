@@ -0,0 +1,176 @@
+package com.api.taskmanagement.integrations;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.models.*;
+import com.api.taskmanagement.repositories.*;
+import com.api.taskmanagement.util.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Runs the PostgreSQL branches of the JDBC repositories. The database in TEST_POSTGRES_URL is cleaned and migrated by Flyway.
+@SpringBootTest
+@Import(PostgresRepositoryIT.CleanMigration.class)
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+public class PostgresRepositoryIT {
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private TaskSearchRepository taskSearchRepository;
+  @Autowired
+  private PersonSearchRepository personSearchRepository;
+  @Autowired
+  private TaskFinishRepository taskFinishRepository;
+  @Autowired
+  private TaskRepository taskRepository;
+  @Autowired
+  private PersonRepository personRepository;
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
+  @DynamicPropertySource
+  static void postgresProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> System.getenv("TEST_POSTGRES_URL"));
+    registry.add("spring.datasource.username", () -> environmentOrDefault("TEST_POSTGRES_USERNAME", "postgres"));
+    registry.add("spring.datasource.password", () -> environmentOrDefault("TEST_POSTGRES_PASSWORD", ""));
+    registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    registry.add("spring.jpa.defer-datasource-initialization", () -> "false");
+    registry.add("spring.flyway.enabled", () -> "true");
+    registry.add("spring.flyway.clean-disabled", () -> "false");
+  }
+
+  // Imported rather than annotated, so component scans of the test classpath (the JMH benchmarks) do not pick it up
+  static class CleanMigration {
+    @Bean
+    public FlywayMigrationStrategy cleanMigrationStrategy() {
+      return flyway -> {
+        flyway.clean();
+        flyway.migrate();
+      };
+    }
+  }
+
+  @BeforeEach
+  void truncateTables() {
+    jdbcTemplate.execute("TRUNCATE outbox_events, tasks, people, departments");
+  }
+
+  @Test
+  @DisplayName("task search ranks title matches above description matches with the search_vector column")
+  void taskSearch_RanksTitleMatchesFirst_WhenSuccessful() {
+    Task descriptionMatch = saveTask("Review", "Update the invoice template");
+    Task titleMatch = saveTask("Invoice export", "A Task");
+    saveTask("Deploy", "A Task");
+
+    List<TaskResponseDto> tasks = taskSearchRepository.search("invoice", 10, 0);
+
+    Assertions.assertThat(tasks).extracting(TaskResponseDto::getId).containsExactly(titleMatch.getId(), descriptionMatch.getId());
+  }
+
+  @Test
+  @DisplayName("task search accepts websearch phrases and exclusions")
+  void taskSearch_AppliesWebsearchSyntax_WhenQueryHasPhraseAndExclusion() {
+    Task phraseMatch = saveTask("Export invoice report", "A Task");
+    saveTask("Invoice export", "A Task");
+    saveTask("Export invoice draft", "A Task");
+
+    List<TaskResponseDto> tasks = taskSearchRepository.search("\"export invoice\" -draft", 10, 0);
+
+    Assertions.assertThat(tasks).extracting(TaskResponseDto::getId).containsExactly(phraseMatch.getId());
+  }
+
+  @Test
+  @DisplayName("task search sees titles changed after the task was created")
+  void taskSearch_MatchesUpdatedTitle_WhenTaskIsUpdated() {
+    Task task = saveTask("Deploy", "A Task");
+    task.setTitle("Invoice export");
+    taskRepository.saveAndFlush(task);
+
+    List<TaskResponseDto> tasks = taskSearchRepository.search("invoice", 10, 0);
+
+    Assertions.assertThat(tasks).extracting(TaskResponseDto::getId).containsExactly(task.getId());
+  }
+
+  @Test
+  @DisplayName("person search returns prefix matches before trigram matches")
+  void personSearch_ReturnsPrefixMatchesBeforeTrigramMatches_WhenSuccessful() {
+    savePerson("Allan", 2L, 10L);
+    savePerson("Alan", 1L, 3L);
+    savePerson("Bruno", 1L, 3L);
+    savePerson("Alana", 0L, 0L);
+
+    List<PersonExpensesDto> people = personSearchRepository.searchWithDurationAverage("Alan", 10, 0);
+
+    Assertions.assertThat(people).extracting(PersonExpensesDto::getName).containsExactly("Alan", "Allan");
+    Assertions.assertThat(people.get(1).getAvg_duration()).isEqualTo(5.0);
+  }
+
+  @Test
+  @DisplayName("person search treats like wildcards in the name as plain characters")
+  void personSearch_EscapesWildcards_WhenNameContainsThem() {
+    savePerson("Alan", 1L, 3L);
+    savePerson("Al_an", 1L, 3L);
+
+    List<PersonExpensesDto> people = personSearchRepository.searchWithDurationAverage("al_", 10, 0);
+
+    Assertions.assertThat(people).extracting(PersonExpensesDto::getName).first().isEqualTo("Al_an");
+  }
+
+  @Test
+  @DisplayName("finish by ids records the finished outbox event from the rows the update returns")
+  void finishByIds_RecordsOutboxEvents_WhenSuccessful() throws Exception {
+    Task pendingTask = saveTask("Deploy", "A Task");
+    Task finishedTask = TaskCreator.createTaskToBeSaved();
+    finishedTask.setFinished(true);
+    finishedTask = taskRepository.saveAndFlush(finishedTask);
+
+    int finished = taskFinishRepository.finishByIds(List.of(pendingTask.getId(), finishedTask.getId()));
+    List<OutboxEvent> events = outboxEventRepository.findAll();
+
+    Assertions.assertThat(finished).isEqualTo(1);
+    Assertions.assertThat(events).hasSize(1);
+    Assertions.assertThat(events.get(0).getTaskId()).isEqualTo(pendingTask.getId());
+    JsonNode payload = new ObjectMapper().readTree(events.get(0).getPayload());
+    Assertions.assertThat(payload.path("type").asText()).isEqualTo("finished");
+    Assertions.assertThat(payload.path("task").path("title").asText()).isEqualTo("Deploy");
+    Assertions.assertThat(payload.path("task").path("deadline").asText()).isEqualTo(pendingTask.getDeadline().toString());
+    Assertions.assertThat(payload.path("task").path("finished").asBoolean()).isTrue();
+  }
+
+  private Task saveTask(String title, String description) {
+    Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
+    taskToBeSaved.setTitle(title);
+    taskToBeSaved.setDescription(description);
+    return taskRepository.saveAndFlush(taskToBeSaved);
+  }
+
+  private Person savePerson(String name, Long taskCount, Long durationSum) {
+    Person person = Person.builder().name(name).build();
+    person.setTaskCount(taskCount);
+    person.setDurationSum(durationSum);
+    return personRepository.saveAndFlush(person);
+  }
+
+  private static String environmentOrDefault(String name, String defaultValue) {
+    String value = System.getenv(name);
+    return value == null ? defaultValue : value;
+  }
+}
@@ -0,0 +1,91 @@
+package com.api.taskmanagement.integrations;
+
+import java.sql.Connection;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.models.*;
+import com.api.taskmanagement.repositories.*;
+import com.api.taskmanagement.util.*;
+
+// Upgrades the schema that ddl-auto=update created before Flyway (db/baseline.sql) instead of migrating an empty database.
+// Starting the context also runs ddl-auto=validate against the upgraded schema.
+@SpringBootTest
+@Import(PostgresUpgradeIT.BaselineMigration.class)
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+public class PostgresUpgradeIT {
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private TaskSearchRepository taskSearchRepository;
+  @Autowired
+  private TaskRepository taskRepository;
+  @Autowired
+  private DepartmentRepository departmentRepository;
+
+  @DynamicPropertySource
+  static void postgresProperties(DynamicPropertyRegistry registry) {
+    PostgresRepositoryIT.postgresProperties(registry);
+    registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+  }
+
+  // Imported rather than annotated, so component scans of the test classpath (the JMH benchmarks) do not pick it up
+  static class BaselineMigration {
+    @Bean
+    public FlywayMigrationStrategy baselineMigrationStrategy() {
+      return flyway -> {
+        flyway.clean();
+        try (Connection connection = flyway.getConfiguration().getDataSource().getConnection()) {
+          ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/baseline.sql"));
+        } catch (Exception e) {
+          throw new IllegalStateException("Could not load the baseline schema", e);
+        }
+        flyway.migrate();
+      };
+    }
+  }
+
+  @Test
+  @DisplayName("migrate baselines the existing schema and backfills the counters of the existing rows")
+  void migrate_BackfillsCounters_WhenStartingFromBaselineSchema() {
+    Assertions.assertThat(jdbcTemplate.queryForObject(
+      "SELECT version FROM flyway_schema_history WHERE type = 'BASELINE'", String.class)).isEqualTo("1");
+    Assertions.assertThat(jdbcTemplate.queryForList("SELECT people_count FROM departments ORDER BY id", Long.class))
+      .containsExactly(2L, 1L);
+    Assertions.assertThat(jdbcTemplate.queryForList("SELECT tasks_count FROM departments ORDER BY id", Long.class))
+      .containsExactly(2L, 1L);
+    Assertions.assertThat(jdbcTemplate.queryForList("SELECT task_count FROM people ORDER BY id", Long.class))
+      .containsExactly(2L, 0L, 0L);
+    Assertions.assertThat(jdbcTemplate.queryForList("SELECT duration_sum FROM people ORDER BY id", Long.class))
+      .containsExactly(7L, 0L, 0L);
+  }
+
+  @Test
+  @DisplayName("the upgraded schema searches existing tasks and accepts new ones")
+  void upgradedSchema_SearchesExistingTasksAndSavesNewOnes_WhenStartingFromBaselineSchema() {
+    List<TaskResponseDto> tasks = taskSearchRepository.search("invoice", 10, 0);
+
+    Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
+    taskToBeSaved.setDepartment(departmentRepository.getReferenceById(1L));
+    Task savedTask = taskRepository.saveAndFlush(taskToBeSaved);
+
+    Assertions.assertThat(tasks).extracting(TaskResponseDto::getId).containsExactly(2L, 1L);
+    Assertions.assertThat(savedTask.getId()).isGreaterThan(3L);
+    Assertions.assertThat(savedTask.getVersion()).isZero();
+  }
+}
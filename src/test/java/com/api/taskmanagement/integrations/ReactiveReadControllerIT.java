@@ -0,0 +1,103 @@
+package com.api.taskmanagement.integrations;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
+import com.api.taskmanagement.dtos.responses.ListPeopleDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.models.*;
+import com.api.taskmanagement.repositories.*;
+import com.api.taskmanagement.util.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+  properties = "spring.datasource.driver-class-name=org.h2.Driver")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class ReactiveReadControllerIT {
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private TaskRepository taskRepository;
+  @Autowired
+  private PersonRepository personRepository;
+  @Autowired
+  private DepartmentRepository departmentRepository;
+
+  @Test
+  @DisplayName("pendingTasks streams the oldest tasks without person as ndjson when successful")
+  void pendingTasks_StreamsOldestTasksWithoutPerson_WhenSuccessful() throws JsonProcessingException {
+    for (String deadline : List.of("2022-12-30", "2022-12-10", "2022-12-20")) {
+      Task task = TaskCreator.createTaskToBeSaved();
+      task.setDeadline(Date.valueOf(deadline));
+      taskRepository.save(task);
+    }
+
+    ResponseEntity<String> response = testRestTemplate.getForEntity("/reactive/tasks/pending?limit=2", String.class);
+
+    Assertions.assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_NDJSON)).isTrue();
+    List<TaskResponseDto> tasks = readLines(response.getBody(), TaskResponseDto.class);
+    Assertions.assertThat(tasks).extracting(TaskResponseDto::getDeadline)
+      .containsExactly(Date.valueOf("2022-12-10"), Date.valueOf("2022-12-20"));
+  }
+
+  @Test
+  @DisplayName("people streams people with sum of task durations when successful")
+  void people_StreamsPeopleWithSumTaskDurations_WhenSuccessful() throws JsonProcessingException {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    personRepository.save(Person.builder().name("Alan").department(savedDepartment).taskCount(2L).durationSum(7L).build());
+    personRepository.save(Person.builder().name("Rafael").department(savedDepartment).build());
+
+    List<ListPeopleDto> people = readLines(testRestTemplate.getForObject("/reactive/people", String.class), ListPeopleDto.class);
+
+    Assertions.assertThat(people).hasSize(1);
+    Assertions.assertThat(people.get(0).getName()).isEqualTo("Alan");
+    Assertions.assertThat(people.get(0).getDepartment()).isEqualTo(savedDepartment.getTitle());
+    Assertions.assertThat(people.get(0).getSum_duration()).isEqualTo(7L);
+  }
+
+  @Test
+  @DisplayName("departments streams departments with people and tasks when successful")
+  void departments_StreamsDepartmentsWithPeopleAndTasks_WhenSuccessful() throws JsonProcessingException {
+    Department savedDepartment = departmentRepository.save(Department.builder().title("RH").peopleCount(2L).tasksCount(3L).build());
+    departmentRepository.save(Department.builder().title("Marketing").build());
+
+    List<ListDepartmentDto> departments = readLines(testRestTemplate.getForObject("/reactive/departments", String.class), ListDepartmentDto.class);
+
+    Assertions.assertThat(departments).hasSize(1);
+    Assertions.assertThat(departments.get(0).getId()).isEqualTo(savedDepartment.getId());
+    Assertions.assertThat(departments.get(0).getCount_people()).isEqualTo(2L);
+    Assertions.assertThat(departments.get(0).getCount_tasks()).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("departments streams nothing when is not found")
+  void departments_StreamsNothing_WhenIsNotFound() {
+    String body = testRestTemplate.getForObject("/reactive/departments", String.class);
+
+    Assertions.assertThat(body).isNullOrEmpty();
+  }
+
+  private <T> List<T> readLines(String body, Class<T> type) throws JsonProcessingException {
+    List<T> values = new ArrayList<>();
+    for (String line : body.split("\n")) {
+      values.add(objectMapper.readValue(line, type));
+    }
+    return values;
+  }
+}
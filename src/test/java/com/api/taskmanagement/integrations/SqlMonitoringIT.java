@@ -0,0 +1,88 @@
+package com.api.taskmanagement.integrations;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.api.taskmanagement.config.SqlBudgetInterceptor;
+import com.api.taskmanagement.dtos.requests.AllocatePersonTaskDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.models.*;
+import com.api.taskmanagement.repositories.*;
+import com.api.taskmanagement.util.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+  properties = {"app.sql.budget=3", "app.sql.budget-mode=fail", "app.sql.slow-threshold-ms=0"})
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@ExtendWith(OutputCaptureExtension.class)
+public class SqlMonitoringIT {
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private TaskRepository taskRepository;
+  @Autowired
+  private PersonRepository personRepository;
+  @Autowired
+  private DepartmentRepository departmentRepository;
+
+  @Test
+  @DisplayName("requests within the SQL budget succeed and record their statement count")
+  void request_SucceedsAndRecordsStatementCount_WhenWithinBudget() {
+    taskRepository.save(TaskCreator.createTaskToBeSaved());
+
+    ResponseEntity<List<TaskResponseDto>> response = testRestTemplate.exchange("/tasks", HttpMethod.GET, null,
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {});
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(meterRegistry.find(SqlBudgetInterceptor.STATEMENTS_SUMMARY)
+      .tag("handler", "TaskController.list").summary().totalAmount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("requests over the SQL budget fail when the budget mode is fail")
+  void request_Fails_WhenOverBudget() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Person savedPerson = personRepository.save(Person.builder().name("Alan").department(savedDepartment).build());
+    Task savedTask = TaskCreator.createTaskToBeSaved();
+    savedTask.setDepartment(savedDepartment);
+    savedTask = taskRepository.save(savedTask);
+
+    ResponseEntity<String> response = testRestTemplate.exchange("/tasks/allocate/{id}", HttpMethod.PUT,
+      new HttpEntity<>(new AllocatePersonTaskDto(savedPerson.getId())), String.class, savedTask.getId());
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    Assertions.assertThat(taskRepository.findById(savedTask.getId()).get().getPerson()).isNull();
+  }
+
+  @Test
+  @DisplayName("slow queries are logged with the originating handler and bind parameters")
+  void slowQuery_IsLoggedWithHandlerAndParameters(CapturedOutput output) {
+    Task savedTask = taskRepository.save(TaskCreator.createTaskToBeSaved());
+
+    testRestTemplate.getForObject("/tasks/{id}", TaskResponseDto.class, savedTask.getId());
+
+    Assertions.assertThat(output.getOut()).contains("Slow query in TaskController.show")
+      .contains("Params:[(" + savedTask.getId() + ")]");
+  }
+}
@@ -1,10 +1,25 @@
 package com.api.taskmanagement.integrations;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Date;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,17 +29,35 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.annotation.DirtiesContext;
 
+import com.api.taskmanagement.config.TimingAspect;
 import com.api.taskmanagement.dtos.requests.AllocatePersonTaskDto;
+import com.api.taskmanagement.dtos.requests.TaskAllocationDto;
 import com.api.taskmanagement.dtos.requests.TaskDto;
+import com.api.taskmanagement.dtos.requests.TaskFinishDto;
+import com.api.taskmanagement.dtos.responses.TaskAllocationResultDto;
+import com.api.taskmanagement.dtos.responses.TaskEventDto;
+import com.api.taskmanagement.dtos.responses.TaskFinishResultDto;
+import com.api.taskmanagement.dtos.responses.TaskPageDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.dtos.responses.TaskSearchPageDto;
 import com.api.taskmanagement.models.*;
 import com.api.taskmanagement.repositories.*;
+import com.api.taskmanagement.services.OutboxService;
+import com.api.taskmanagement.services.TaskService;
 import com.api.taskmanagement.util.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureTestDatabase
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
@@ -40,14 +73,24 @@ public class TaskControllerIT {
   private PersonRepository personRepository;
   @Autowired
   private DepartmentRepository departmentRepository;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private MeterRegistry meterRegistry;
+  @Autowired
+  private ObjectMapper objectMapper;
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+  @Autowired
+  private OutboxService outboxService;
 
   @Test
   @DisplayName("list returns list of tasks when successful") 
   void list_ReturnsListOfTasks_WhenSuccessful() {
     Task savedTask = taskRepository.save(TaskCreator.createTaskToBeSaved());
 
-    List<Task> tasks = testRestTemplate.exchange("/tasks", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<List<Task>>() {}).getBody();
+    List<TaskResponseDto> tasks = testRestTemplate.exchange("/tasks", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {}).getBody();
 
     Assertions.assertThat(tasks).isNotNull().isNotEmpty().hasSize(1);
     Assertions.assertThat(tasks.get(0).getTitle()).isEqualTo(savedTask.getTitle());
@@ -59,28 +102,188 @@ public class TaskControllerIT {
   @Test
   @DisplayName("list returns a empty list of tasks when is not found") 
   void list_ReturnsEmptyListOfTasks_WhenIsNotFound() {
-    List<Task> tasks = testRestTemplate.exchange("/tasks", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<List<Task>>() {}).getBody();
+    List<TaskResponseDto> tasks = testRestTemplate.exchange("/tasks", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {}).getBody();
 
     Assertions.assertThat(tasks).isNotNull().isEmpty();
   }
 
+  @Test
+  @DisplayName("list returns only the tasks matching the filters in the requested order")
+  void list_ReturnsFilteredAndSortedTasks_WhenFiltersAreGiven() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Department otherDepartment = departmentRepository.save(DepartmentCreator.createOtherDepartmentToBeSaved());
+    for (String deadline : List.of("2022-12-10", "2022-12-20", "2023-01-10")) {
+      taskRepository.save(Task.builder().title("Task " + deadline).description("A Task").deadline(Date.valueOf(deadline))
+        .duration(2).finished(false).department(savedDepartment).build());
+    }
+    taskRepository.save(Task.builder().title("Finished").description("A Task").deadline(Date.valueOf("2022-12-15"))
+      .duration(2).finished(true).department(savedDepartment).build());
+    taskRepository.save(Task.builder().title("Other").description("A Task").deadline(Date.valueOf("2022-12-15"))
+      .duration(2).finished(false).department(otherDepartment).build());
+
+    List<TaskResponseDto> tasks = testRestTemplate.exchange(
+      "/tasks?department_id={department_id}&finished=false&deadline_from=2022-12-01&deadline_to=2022-12-31&sort=deadline,desc",
+      HttpMethod.GET, null, new ParameterizedTypeReference<List<TaskResponseDto>>() {}, savedDepartment.getId()).getBody();
+
+    Assertions.assertThat(tasks).extracting(TaskResponseDto::getTitle).containsExactly("Task 2022-12-20", "Task 2022-12-10");
+  }
+
+  @Test
+  @DisplayName("list returns every task when no page or size is given")
+  void list_ReturnsEveryTask_WhenPageAndSizeAreNotGiven() {
+    for (int index = 0; index < TaskService.DEFAULT_PAGE_SIZE + 5; index++) {
+      taskRepository.save(TaskCreator.createTaskToBeSaved());
+    }
+
+    List<TaskResponseDto> tasks = testRestTemplate.exchange("/tasks", HttpMethod.GET, null,
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {}).getBody();
+
+    Assertions.assertThat(tasks).hasSize(TaskService.DEFAULT_PAGE_SIZE + 5);
+  }
+
+  @Test
+  @DisplayName("list returns one page of tasks ordered by id")
+  void list_ReturnsOnePage_WhenSizeIsGiven() {
+    List<Long> ids = new ArrayList<>();
+    for (int index = 0; index < 3; index++) {
+      ids.add(taskRepository.save(TaskCreator.createTaskToBeSaved()).getId());
+    }
+
+    List<TaskResponseDto> firstPage = testRestTemplate.exchange("/tasks?size=2", HttpMethod.GET, null,
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {}).getBody();
+    List<TaskResponseDto> secondPage = testRestTemplate.exchange("/tasks?size=2&page=1", HttpMethod.GET, null,
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {}).getBody();
+
+    Assertions.assertThat(firstPage).extracting(TaskResponseDto::getId).containsExactly(ids.get(0), ids.get(1));
+    Assertions.assertThat(secondPage).extracting(TaskResponseDto::getId).containsExactly(ids.get(2));
+  }
+
+  @Test
+  @DisplayName("search returns ranked matches one page at a time")
+  void search_ReturnsRankedPages_WhenSuccessful() {
+    for (String[] task : List.of(new String[] {"Review", "Check the invoice totals"}, new String[] {"Invoice export", "A Task"},
+        new String[] {"Deploy", "A Task"}, new String[] {"Invoice import", "A Task"})) {
+      taskRepository.save(Task.builder().title(task[0]).description(task[1]).deadline(Date.valueOf("2022-12-30"))
+        .duration(2).finished(false).build());
+    }
+
+    TaskSearchPageDto firstPage = testRestTemplate.getForObject("/tasks/search?q=invoice&size=2", TaskSearchPageDto.class);
+    TaskSearchPageDto secondPage = testRestTemplate.getForObject("/tasks/search?q=invoice&size=2&page={page}", TaskSearchPageDto.class,
+      firstPage.getNext_page());
+
+    Assertions.assertThat(firstPage.getContent()).extracting(TaskResponseDto::getTitle).containsExactly("Invoice export", "Invoice import");
+    Assertions.assertThat(secondPage.getContent()).extracting(TaskResponseDto::getTitle).containsExactly("Review");
+    Assertions.assertThat(secondPage.getNext_page()).isNull();
+  }
+
+  @Test
+  @DisplayName("page walks through every task following the next cursor")
+  void page_WalksThroughEveryTask_WhenFollowingCursor() {
+    taskRepository.save(TaskCreator.createTaskToBeSaved());
+    taskRepository.save(TaskCreator.createTaskToBeSaved());
+    taskRepository.save(TaskCreator.createTaskToBeSaved());
+
+    TaskPageDto firstPage = testRestTemplate.getForObject("/tasks/page?size=2", TaskPageDto.class);
+    TaskPageDto secondPage = testRestTemplate.getForObject("/tasks/page?size=2&cursor={cursor}", TaskPageDto.class, firstPage.getNext_cursor());
+
+    Assertions.assertThat(firstPage.getContent()).hasSize(2);
+    Assertions.assertThat(firstPage.getNext_cursor()).isNotNull();
+    Assertions.assertThat(secondPage.getContent()).hasSize(1);
+    Assertions.assertThat(secondPage.getNext_cursor()).isNull();
+    Assertions.assertThat(secondPage.getContent().get(0).getId()).isGreaterThan(firstPage.getContent().get(1).getId());
+  }
+
+  @Test
+  @DisplayName("export streams one json line per task when successful")
+  void export_StreamsOneJsonLinePerTask_WhenSuccessful() {
+    taskRepository.save(TaskCreator.createTaskToBeSaved());
+    taskRepository.save(TaskCreator.createTaskToBeSaved());
+
+    ResponseEntity<String> exportResponseEntity = testRestTemplate.getForEntity("/tasks/export", String.class);
+
+    Assertions.assertThat(exportResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(exportResponseEntity.getBody()).isNotNull();
+    Assertions.assertThat(exportResponseEntity.getBody().split("\n")).hasSize(2);
+  }
+
   @Test
   @DisplayName("pendingTasks returns list of tasks when successful") 
   void pendingTasks_ReturnsListOfTasks_WhenSuccessful() {
     taskRepository.save(TaskCreator.createTaskToBeSaved());
 
-    List<Task> tasks = testRestTemplate.exchange("/tasks/pending", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<List<Task>>() {}).getBody();
+    List<TaskResponseDto> tasks = testRestTemplate.exchange("/tasks/pending", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {}).getBody();
 
     Assertions.assertThat(tasks).isNotNull().isNotEmpty().hasSize(1);
   }
 
+  @Test
+  @DisplayName("claim allocates pending tasks oldest first until the queue is drained")
+  void claim_AllocatesPendingTasksOldestFirst_UntilQueueIsDrained() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Person savedPerson = personRepository.save(Person.builder().name("Alan").department(savedDepartment).build());
+
+    for (String deadline : List.of("2022-12-30", "2022-12-10")) {
+      Task task = TaskCreator.createTaskToBeSaved();
+      task.setDeadline(Date.valueOf(deadline));
+      task.setDepartment(savedDepartment);
+      taskRepository.save(task);
+    }
+
+    AllocatePersonTaskDto requestBody = new AllocatePersonTaskDto(savedPerson.getId());
+    ResponseEntity<TaskResponseDto> first = testRestTemplate.postForEntity("/tasks/claim", requestBody, TaskResponseDto.class);
+    ResponseEntity<TaskResponseDto> second = testRestTemplate.postForEntity("/tasks/claim", requestBody, TaskResponseDto.class);
+    ResponseEntity<TaskResponseDto> third = testRestTemplate.postForEntity("/tasks/claim", requestBody, TaskResponseDto.class);
+
+    Assertions.assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(first.getBody().getDeadline()).isEqualTo(Date.valueOf("2022-12-10"));
+    Assertions.assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(second.getBody().getDeadline()).isEqualTo(Date.valueOf("2022-12-30"));
+    Assertions.assertThat(third.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    Assertions.assertThat(taskRepository.findAll()).allSatisfy(task -> Assertions.assertThat(task.getVersion()).isEqualTo(1L));
+  }
+
+  @Test
+  @DisplayName("save rejects a stale task after it was allocated concurrently")
+  void save_RejectsStaleTask_WhenTaskWasAllocatedConcurrently() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Person savedPerson = personRepository.save(Person.builder().name("Alan").department(savedDepartment).build());
+
+    Task savedTask = TaskCreator.createTaskToBeSaved();
+    savedTask.setDepartment(savedDepartment);
+    Task staleTask = taskRepository.save(savedTask);
+
+    testRestTemplate.exchange("/tasks/allocate/{id}", HttpMethod.PUT,
+      new HttpEntity<>(new AllocatePersonTaskDto(savedPerson.getId())), TaskResponseDto.class, staleTask.getId());
+
+    staleTask.setFinished(true);
+
+    Assertions.assertThatThrownBy(() -> taskRepository.save(staleTask))
+      .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+  }
+
+  @Test
+  @DisplayName("pendingTasks returns the requested number of tasks when limit is given") 
+  void pendingTasks_ReturnsRequestedNumberOfTasks_WhenLimitIsGiven() {
+    for (int i = 0; i < 6; i++) {
+      taskRepository.save(TaskCreator.createTaskToBeSaved());
+    }
+
+    List<TaskResponseDto> defaultTasks = testRestTemplate.exchange("/tasks/pending", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {}).getBody();
+    List<TaskResponseDto> limitedTasks = testRestTemplate.exchange("/tasks/pending?limit=5", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {}).getBody();
+
+    Assertions.assertThat(defaultTasks).hasSize(3);
+    Assertions.assertThat(limitedTasks).hasSize(5);
+  }
+
   @Test
   @DisplayName("pendingTasks returns a empty list of tasks when not found") 
   void pendingTasks_ReturnsEmptyListOfTasks_WhenNotFound() {
-    List<Task> tasks = testRestTemplate.exchange("/tasks/pending", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<List<Task>>() {}).getBody(); 
+    List<TaskResponseDto> tasks = testRestTemplate.exchange("/tasks/pending", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {}).getBody(); 
 
     Assertions.assertThat(tasks).isNotNull().isEmpty();;
   }
@@ -91,8 +294,8 @@ public class TaskControllerIT {
     Task savedTask = taskRepository.save(TaskCreator.createTaskToBeSaved());
     Long expectedId = savedTask.getId();
 
-    Optional<Task> task = testRestTemplate.exchange("/tasks/{id}", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<Optional<Task>>() {}, expectedId).getBody(); 
+    Optional<TaskResponseDto> task = testRestTemplate.exchange("/tasks/{id}", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<Optional<TaskResponseDto>>() {}, expectedId).getBody(); 
 
     Assertions.assertThat(task).isNotNull().isPresent();
     Assertions.assertThat(task.get().getId()).isEqualTo(expectedId);
@@ -101,19 +304,48 @@ public class TaskControllerIT {
   @Test
   @DisplayName("show returns nothing when is not found") 
   void show_ReturnsNothing_WhenNotFound() {
-    Optional<Task> task = testRestTemplate.exchange("/tasks/{id}", HttpMethod.GET, null, 
-      new ParameterizedTypeReference<Optional<Task>>() {}, 1L).getBody(); 
+    Optional<TaskResponseDto> task = testRestTemplate.exchange("/tasks/{id}", HttpMethod.GET, null, 
+      new ParameterizedTypeReference<Optional<TaskResponseDto>>() {}, 1L).getBody(); 
 
     Assertions.assertThat(task).isNotNull().isEmpty();
   }
 
+  @Test
+  @DisplayName("show returns not modified while the task version is unchanged and a new etag after it changes")
+  void show_ReturnsNotModifiedUntilTaskChanges_WhenEtagIsSent() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Person savedPerson = personRepository.save(Person.builder().name("Alan").department(savedDepartment).build());
+    Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
+    taskToBeSaved.setDepartment(savedDepartment);
+    Task savedTask = taskRepository.save(taskToBeSaved);
+
+    ResponseEntity<String> first = testRestTemplate.getForEntity("/tasks/{id}", String.class, savedTask.getId());
+    String etag = first.getHeaders().getETag();
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch(etag);
+    ResponseEntity<String> unchanged = testRestTemplate.exchange("/tasks/{id}", HttpMethod.GET, new HttpEntity<>(headers), String.class, savedTask.getId());
+
+    testRestTemplate.exchange("/tasks/allocate/{id}", HttpMethod.PUT,
+      new HttpEntity<>(new AllocatePersonTaskDto(savedPerson.getId())), String.class, savedTask.getId());
+    ResponseEntity<String> changed = testRestTemplate.exchange("/tasks/{id}", HttpMethod.GET, new HttpEntity<>(headers), String.class, savedTask.getId());
+
+    Assertions.assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(etag).isEqualTo("\"0\"");
+    Assertions.assertThat(first.getHeaders().getLastModified()).isPositive();
+    Assertions.assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    Assertions.assertThat(unchanged.getBody()).isNull();
+    Assertions.assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(changed.getHeaders().getETag()).isEqualTo("\"1\"");
+  }
+
   @Test
   @DisplayName("create returns task when successful")
   void create_ReturnsTask_WhenSuccessful() {
     Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
     TaskDto requestBody = new TaskDto("Task A", "A Task", Date.valueOf("2022-12-30"), 2, false, savedDepartment.getId(), null);
 
-    ResponseEntity<Task> taskResponseEntity = testRestTemplate.postForEntity("/tasks", requestBody, Task.class);
+    ResponseEntity<TaskResponseDto> taskResponseEntity = testRestTemplate.postForEntity("/tasks", requestBody, TaskResponseDto.class);
 
     Assertions.assertThat(taskResponseEntity).isNotNull();
     Assertions.assertThat(taskResponseEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
@@ -121,6 +353,26 @@ public class TaskControllerIT {
     Assertions.assertThat(taskResponseEntity.getBody().getId()).isNotNull();
   }
 
+  @Test
+  @DisplayName("createBatch inserts every task in batched statements when successful")
+  void createBatch_InsertsTasksInBatchedStatements_WhenSuccessful() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    List<TaskDto> requestBody = new ArrayList<>();
+    for (int i = 0; i < 120; i++) {
+      requestBody.add(new TaskDto("Task " + i, "A Task", Date.valueOf("2022-12-30"), 2, false, savedDepartment.getId(), null));
+    }
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    ResponseEntity<List<TaskResponseDto>> taskResponseEntity = testRestTemplate.exchange("/tasks/batch", HttpMethod.POST,
+      new HttpEntity<>(requestBody), new ParameterizedTypeReference<List<TaskResponseDto>>() {});
+
+    Assertions.assertThat(taskResponseEntity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    Assertions.assertThat(taskResponseEntity.getBody()).hasSize(120).allSatisfy(task -> Assertions.assertThat(task.getId()).isNotNull());
+    Assertions.assertThat(taskRepository.count()).isEqualTo(120);
+    Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThan(15);
+  }
+
   @Test
   @DisplayName("allocatePerson returns task when successful")
   void allocatePerson_ReturnsTask_WhenSuccessful() {
@@ -138,14 +390,47 @@ public class TaskControllerIT {
 
     AllocatePersonTaskDto requestBody = new AllocatePersonTaskDto(savedPerson.getId());
 
-    ResponseEntity<Task> taskResponseEntity = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(requestBody), Task.class);
+    ResponseEntity<TaskResponseDto> taskResponseEntity = testRestTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(requestBody), TaskResponseDto.class);
 
     Assertions.assertThat(taskResponseEntity);
     Assertions.assertThat(taskResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
     Assertions.assertThat(taskResponseEntity.getBody()).isNotNull();
     Assertions.assertThat(taskResponseEntity.getBody().getId()).isNotNull().isEqualTo(savedTask.getId());
-    Assertions.assertThat(taskResponseEntity.getBody().getPerson()).isNotNull();
-    Assertions.assertThat(taskResponseEntity.getBody().getPerson().getId()).isNotNull().isEqualTo(requestBody.getPerson_id());
+    Assertions.assertThat(taskResponseEntity.getBody().getPerson_id()).isNotNull().isEqualTo(requestBody.getPerson_id());
+  }
+
+  @Test
+  @DisplayName("allocateBatch allocates valid pairs and reports the failed ones")
+  void allocateBatch_AllocatesValidPairsAndReportsFailures_WhenPartiallyValid() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Department otherDepartment = departmentRepository.save(DepartmentCreator.createOtherDepartmentToBeSaved());
+    Person savedPerson = personRepository.save(Person.builder().name("Alan").department(savedDepartment).build());
+    List<TaskAllocationDto> requestBody = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      Task task = TaskCreator.createTaskToBeSaved();
+      task.setDepartment(savedDepartment);
+      requestBody.add(new TaskAllocationDto(taskRepository.save(task).getId(), savedPerson.getId()));
+    }
+    Task otherTask = TaskCreator.createTaskToBeSaved();
+    otherTask.setDepartment(otherDepartment);
+    requestBody.add(new TaskAllocationDto(taskRepository.save(otherTask).getId(), savedPerson.getId()));
+    requestBody.add(new TaskAllocationDto(-1L, savedPerson.getId()));
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    ResponseEntity<List<TaskAllocationResultDto>> response = testRestTemplate.exchange("/tasks/allocate/batch", HttpMethod.PUT,
+      new HttpEntity<>(requestBody), new ParameterizedTypeReference<List<TaskAllocationResultDto>>() {});
+
+    Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThan(15);
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(response.getBody()).hasSize(62);
+    Assertions.assertThat(response.getBody().subList(0, 60))
+      .allSatisfy(result -> Assertions.assertThat(result.getTask().getPerson_id()).isEqualTo(savedPerson.getId()));
+    Assertions.assertThat(response.getBody().get(60).getError()).isEqualTo("Must be the same department");
+    Assertions.assertThat(response.getBody().get(61).getError()).isEqualTo("Task not found");
+    Assertions.assertThat(taskRepository.findById(otherTask.getId()).get().getPerson()).isNull();
+    Assertions.assertThat(personRepository.findById(savedPerson.getId()).get().getTaskCount()).isEqualTo(60L);
+    Assertions.assertThat(personRepository.findById(savedPerson.getId()).get().getDurationSum()).isEqualTo(120L);
   }
 
   @Test
@@ -155,7 +440,7 @@ public class TaskControllerIT {
 
     String url = String.format("/tasks/finish/%s", savedTask.getId());
 
-    ResponseEntity<Task> taskResponseEntity = testRestTemplate.exchange(url, HttpMethod.PUT, null, Task.class);
+    ResponseEntity<TaskResponseDto> taskResponseEntity = testRestTemplate.exchange(url, HttpMethod.PUT, null, TaskResponseDto.class);
 
     Assertions.assertThat(taskResponseEntity);
     Assertions.assertThat(taskResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -164,6 +449,50 @@ public class TaskControllerIT {
     Assertions.assertThat(taskResponseEntity.getBody().getFinished()).isNotNull().isEqualTo(true);
   }
 
+
+  @Test
+  @DisplayName("finishAll finishes the pending tasks matching the filter and bumps their version")
+  void finishAll_FinishesMatchingTasks_WhenSuccessful() {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Department otherDepartment = departmentRepository.save(DepartmentCreator.createOtherDepartmentToBeSaved());
+    Task dueTask = taskRepository.save(Task.builder().title("Due").description("A Task").deadline(Date.valueOf("2022-12-10"))
+      .duration(2).finished(false).department(savedDepartment).build());
+    Task laterTask = taskRepository.save(Task.builder().title("Later").description("A Task").deadline(Date.valueOf("2023-01-10"))
+      .duration(2).finished(false).department(savedDepartment).build());
+    Task otherTask = taskRepository.save(Task.builder().title("Other").description("A Task").deadline(Date.valueOf("2022-12-10"))
+      .duration(2).finished(false).department(otherDepartment).build());
+    Long dueVersion = taskRepository.findVersionById(dueTask.getId()).get().getVersion();
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    ResponseEntity<TaskFinishResultDto> response = testRestTemplate.exchange("/tasks/finish", HttpMethod.PUT,
+      new HttpEntity<>(new TaskFinishDto(null, savedDepartment.getId(), null, Date.valueOf("2023-01-01"))), TaskFinishResultDto.class);
+
+    Assertions.assertThat(statistics.getEntityLoadCount()).isZero();
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(response.getBody().getFinished()).isEqualTo(1);
+    Assertions.assertThat(taskRepository.findById(dueTask.getId()).get().getFinished()).isTrue();
+    Assertions.assertThat(taskRepository.findById(laterTask.getId()).get().getFinished()).isFalse();
+    Assertions.assertThat(taskRepository.findById(otherTask.getId()).get().getFinished()).isFalse();
+    Assertions.assertThat(taskRepository.findVersionById(dueTask.getId()).get().getVersion()).isEqualTo(dueVersion + 1);
+    Assertions.assertThat(outboxEventRepository.findAll()).filteredOn(event -> event.getType().equals("finished"))
+      .extracting(OutboxEvent::getTaskId).containsExactly(dueTask.getId());
+  }
+
+  @Test
+  @DisplayName("finishAll returns 400 and finishes nothing when more ids than the limit are sent")
+  void finishAll_ReturnsBadRequest_WhenThereAreTooManyIds() {
+    Task savedTask = taskRepository.save(TaskCreator.createTaskToBeSaved());
+    List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, TaskFinishDto.MAX_IDS).map(id -> savedTask.getId() + id).boxed().toList());
+    ids.add(savedTask.getId());
+
+    ResponseEntity<String> response = testRestTemplate.exchange("/tasks/finish", HttpMethod.PUT,
+      new HttpEntity<>(new TaskFinishDto(ids, null, null, null)), String.class);
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    Assertions.assertThat(taskRepository.findById(savedTask.getId()).get().getFinished()).isFalse();
+  }
+
   @Test
   @DisplayName("delete removes task when successful")
   void delete_RemovesTask_WhenSuccessful() {
@@ -175,4 +504,150 @@ public class TaskControllerIT {
     Assertions.assertThat(taskResponseEntity.getBody()).isNotNull().isEqualTo("Task deleted successfully");
     Assertions.assertThat(taskResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
   }
+
+  @Test
+  @DisplayName("read endpoints run a single statement when expand is not requested and show only probes the version when not modified")
+  void readEndpoints_RunSingleStatement_WhenExpandIsNotRequested() {
+    Task savedTask = saveTasksWithDepartmentAndPerson(3);
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    testRestTemplate.exchange("/tasks", HttpMethod.GET, null, new ParameterizedTypeReference<List<TaskResponseDto>>() {});
+    Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+    statistics.clear();
+    testRestTemplate.getForObject("/tasks/page?size=2", TaskPageDto.class);
+    Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+    statistics.clear();
+    testRestTemplate.exchange("/tasks/pending", HttpMethod.GET, null, new ParameterizedTypeReference<List<TaskResponseDto>>() {});
+    Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+    statistics.clear();
+    testRestTemplate.getForObject("/tasks/{id}", TaskResponseDto.class, savedTask.getId());
+    Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch("\"" + savedTask.getVersion() + "\"");
+    statistics.clear();
+    testRestTemplate.exchange("/tasks/{id}", HttpMethod.GET, new HttpEntity<>(headers), String.class, savedTask.getId());
+    Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("endpoints record service and repository timers tagged by method and outcome")
+  void endpoints_RecordServiceAndRepositoryTimers_WhenCalled() {
+    saveTasksWithDepartmentAndPerson(2);
+
+    testRestTemplate.exchange("/tasks", HttpMethod.GET, null, new ParameterizedTypeReference<List<TaskResponseDto>>() {});
+    testRestTemplate.exchange("/tasks/finish/{id}", HttpMethod.PUT, null, String.class, 999999L);
+
+    Assertions.assertThat(meterRegistry.find(TimingAspect.SERVICE_TIMER)
+      .tags("class", "TaskService", "method", "findAll", "outcome", "success").timer().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.find(TimingAspect.SERVICE_TIMER)
+      .tags("class", "TaskService", "method", "finishTask", "outcome", "error", "exception", "Error").timer().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.find(TimingAspect.REPOSITORY_TIMER)
+      .tags("class", "TaskRepository", "method", "findAll", "outcome", "success").timer().count()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.find("hibernate.statements").functionCounter()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("read endpoints run one extra statement per expanded association regardless of the number of tasks")
+  void readEndpoints_RunOneStatementPerExpandedAssociation_WhenExpandIsRequested() {
+    Task savedTask = saveTasksWithDepartmentAndPerson(3);
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    List<TaskResponseDto> tasks = testRestTemplate.exchange("/tasks?expand=department,person", HttpMethod.GET, null,
+      new ParameterizedTypeReference<List<TaskResponseDto>>() {}).getBody();
+    Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    Assertions.assertThat(tasks).hasSize(3).allSatisfy(task -> {
+      Assertions.assertThat(task.getDepartment()).isNotNull();
+      Assertions.assertThat(task.getPerson()).isNotNull();
+    });
+
+    statistics.clear();
+    TaskResponseDto task = testRestTemplate.getForObject("/tasks/{id}?expand=department", TaskResponseDto.class, savedTask.getId());
+    Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    Assertions.assertThat(task.getDepartment()).isNotNull();
+    Assertions.assertThat(task.getPerson()).isNull();
+  }
+
+  @Test
+  @DisplayName("events streams the changes of the subscribed department after commit")
+  void events_StreamsDepartmentTaskChanges_WhenSubscribed() throws Exception {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Department otherDepartment = departmentRepository.save(DepartmentCreator.createOtherDepartmentToBeSaved());
+    Person savedPerson = personRepository.save(Person.builder().name("Alan").department(savedDepartment).build());
+
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks/events?department_id=" + savedDepartment.getId()))
+      .timeout(Duration.ofSeconds(10)).GET().build();
+    HttpResponse<InputStream> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+      testRestTemplate.postForEntity("/tasks", new TaskDto("Task B", "A Task", Date.valueOf("2022-12-30"), 2, false, otherDepartment.getId(), null), String.class);
+      TaskResponseDto createdTask = testRestTemplate.postForEntity("/tasks",
+        new TaskDto("Task A", "A Task", Date.valueOf("2022-12-30"), 2, false, savedDepartment.getId(), null), TaskResponseDto.class).getBody();
+      testRestTemplate.exchange("/tasks/allocate/{id}", HttpMethod.PUT,
+        new HttpEntity<>(new AllocatePersonTaskDto(savedPerson.getId())), String.class, createdTask.getId());
+
+      TaskEventDto created = readEvent(reader);
+      TaskEventDto allocated = readEvent(reader);
+
+      Assertions.assertThat(response.statusCode()).isEqualTo(200);
+      Assertions.assertThat(created.getType()).isEqualTo("created");
+      Assertions.assertThat(created.getTask().getId()).isEqualTo(createdTask.getId());
+      Assertions.assertThat(allocated.getType()).isEqualTo("allocated");
+      Assertions.assertThat(allocated.getTask().getPerson_id()).isEqualTo(savedPerson.getId());
+    }
+  }
+
+  @Test
+  @DisplayName("task changes are written to the outbox in the same transaction and relayed to the sink")
+  void outbox_RecordsAndRelaysTaskChanges_WhenSuccessful() throws Exception {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Path outboxFile = Path.of("target/outbox-test.ndjson");
+    Files.deleteIfExists(outboxFile);
+
+    TaskResponseDto createdTask = testRestTemplate.postForEntity("/tasks",
+      new TaskDto("Task A", "A Task", Date.valueOf("2022-12-30"), 2, false, savedDepartment.getId(), null), TaskResponseDto.class).getBody();
+    testRestTemplate.exchange("/tasks/finish/{id}", HttpMethod.PUT, null, String.class, createdTask.getId());
+
+    Assertions.assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getType).containsExactly("created", "finished");
+
+    int relayed = outboxService.relayBatch(10);
+
+    List<String> lines = Files.readAllLines(outboxFile);
+    Assertions.assertThat(relayed).isEqualTo(2);
+    Assertions.assertThat(outboxEventRepository.count()).isZero();
+    Assertions.assertThat(lines).hasSize(2);
+    Assertions.assertThat(objectMapper.readValue(lines.get(1), TaskEventDto.class).getTask().getFinished()).isTrue();
+    Assertions.assertThat(meterRegistry.get(OutboxService.LAG_TIMER).tag("type", "created").timer().count()).isEqualTo(1L);
+  }
+
+  private TaskEventDto readEvent(BufferedReader reader) throws Exception {
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.startsWith("data:")) {
+        return objectMapper.readValue(line.substring("data:".length()), TaskEventDto.class);
+      }
+    }
+    throw new IllegalStateException("Event stream closed");
+  }
+
+  private Task saveTasksWithDepartmentAndPerson(int count) {
+    Department savedDepartment = departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Person personToBeSaved = PersonCreator.createPersonToBeSaved();
+    personToBeSaved.setDepartment(savedDepartment);
+    Person savedPerson = personRepository.save(personToBeSaved);
+
+    Task savedTask = null;
+    for (int i = 0; i < count; i++) {
+      Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
+      taskToBeSaved.setDepartment(savedDepartment);
+      taskToBeSaved.setPerson(savedPerson);
+      savedTask = taskRepository.save(taskToBeSaved);
+    }
+    return savedTask;
+  }
 }
@@ -8,7 +8,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import com.api.taskmanagement.dtos.responses.DepartmentResponseDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
 import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
 import com.api.taskmanagement.models.*;
 import com.api.taskmanagement.util.*;
@@ -36,6 +39,15 @@ public class DepartmentRepositoryTest {
     Assertions.assertThat(departmentSaved.getTitle()).isEqualTo(departmentToBeSaved.getTitle());
   }
 
+  @Test
+  @DisplayName("Save throws DataIntegrityViolationException when the title already exists")
+  void save_ThrowsDataIntegrityViolationException_WhenTitleAlreadyExists() {
+    this.departmentRepository.saveAndFlush(DepartmentCreator.createDepartmentToBeSaved());
+
+    Assertions.assertThatThrownBy(() -> this.departmentRepository.saveAndFlush(DepartmentCreator.createDepartmentToBeSaved()))
+      .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
   @Test
   @DisplayName("Save updates department when Successful")
   void save_UpdatesDepartment_WhenSuccessful() {
@@ -85,6 +97,44 @@ public class DepartmentRepositoryTest {
     Assertions.assertThat(department).isEmpty();
   }
 
+  @Test
+  @DisplayName("Find Response By Id returns the department projection with its counters when Successful")
+  void findResponseById_ReturnsDepartmentResponseDto_WhenSuccessful() {
+    Department departmentSaved = this.departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    this.departmentRepository.incrementPeopleCount(departmentSaved.getId(), 2);
+
+    Optional<DepartmentResponseDto> department = this.departmentRepository.findResponseById(departmentSaved.getId());
+
+    Assertions.assertThat(department).isPresent();
+    Assertions.assertThat(department.get().getTitle()).isEqualTo(departmentSaved.getTitle());
+    Assertions.assertThat(department.get().getCount_people()).isEqualTo(2L);
+    Assertions.assertThat(department.get().getCount_tasks()).isEqualTo(0L);
+  }
+
+  @Test
+  @DisplayName("Find Response By Id returns nothing when no department is found")
+  void findResponseById_ReturnsNothing_WhenDepartmentIsNotFound() {
+    Optional<DepartmentResponseDto> department = this.departmentRepository.findResponseById(1L);
+
+    Assertions.assertThat(department).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Find Version By Id returns a newer version after the counters are incremented")
+  void findVersionById_ReturnsNewerVersion_WhenCountersAreIncremented() {
+    Department departmentSaved = this.departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Optional<EntityVersionDto> before = this.departmentRepository.findVersionById(departmentSaved.getId());
+
+    this.departmentRepository.incrementTasksCount(departmentSaved.getId(), 1);
+
+    Optional<EntityVersionDto> after = this.departmentRepository.findVersionById(departmentSaved.getId());
+
+    Assertions.assertThat(before).isPresent();
+    Assertions.assertThat(before.get().getUpdated_at()).isNotNull();
+    Assertions.assertThat(after).isPresent();
+    Assertions.assertThat(after.get().getVersion()).isEqualTo(before.get().getVersion() + 1);
+  }
+
   @Test
   @DisplayName("Find All With People and Tasks returns a list of ListDepartmentDto when Successful")
   void findAllWithPeopleAndTasks_returnsListDepartmentDto_WhenSuccessful() {
@@ -94,14 +144,46 @@ public class DepartmentRepositoryTest {
     Person personToBeSaved = PersonCreator.createPersonToBeSaved();
     personToBeSaved.setDepartment(departmentSaved);
     this.personRepository.save(personToBeSaved);
+    this.departmentRepository.incrementPeopleCount(departmentSaved.getId(), 1);
 
     Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
     taskToBeSaved.setDepartment(departmentSaved);
     this.taskRepository.save(taskToBeSaved);
+    this.departmentRepository.incrementTasksCount(departmentSaved.getId(), 1);
 
     List<ListDepartmentDto> departments = this.departmentRepository.findAllWithPeopleAndTasks();
 
     Assertions.assertThat(departments).isNotEmpty().hasSize(1);
+    Assertions.assertThat(departments.get(0).getCount_people()).isEqualTo(1L);
+    Assertions.assertThat(departments.get(0).getCount_tasks()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Find All With People and Tasks skips departments without people or tasks")
+  void findAllWithPeopleAndTasks_SkipsDepartmentsWithoutPeopleOrTasks_WhenSuccessful() {
+    Department departmentSaved = this.departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    this.departmentRepository.incrementTasksCount(departmentSaved.getId(), 1);
+
+    List<ListDepartmentDto> departments = this.departmentRepository.findAllWithPeopleAndTasks();
+
+    Assertions.assertThat(departments).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Increment counters adds the delta to the stored counters when Successful")
+  void incrementCounters_AddsDelta_WhenSuccessful() {
+    Department departmentSaved = this.departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+
+    this.departmentRepository.incrementPeopleCount(departmentSaved.getId(), 3);
+    this.departmentRepository.incrementPeopleCount(departmentSaved.getId(), -1);
+    int updated = this.departmentRepository.incrementTasksCount(departmentSaved.getId(), 5);
+
+    List<ListDepartmentDto> departments = this.departmentRepository.findAllWithPeopleAndTasks();
+
+    Assertions.assertThat(updated).isEqualTo(1);
+    Assertions.assertThat(departments).hasSize(1);
+    Assertions.assertThat(departments.get(0).getCount_people()).isEqualTo(2L);
+    Assertions.assertThat(departments.get(0).getCount_tasks()).isEqualTo(5L);
   }
 
   @Test
@@ -0,0 +1,48 @@
+package com.api.taskmanagement.repositories;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.api.taskmanagement.models.OutboxEvent;
+
+@DataJpaTest
+@DisplayName("Tests for Outbox Event Repository")
+public class OutboxEventRepositoryTest {
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
+  @Test
+  @DisplayName("Save persists outbox event with its creation timestamp when Successful")
+  void save_PersistOutboxEvent_WhenSuccessful() {
+    OutboxEvent outboxEventSaved = this.outboxEventRepository.saveAndFlush(outboxEventToBeSaved(1L));
+
+    Assertions.assertThat(outboxEventSaved.getId()).isNotNull();
+    Assertions.assertThat(outboxEventSaved.getCreatedAt()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Lock Oldest Events returns the oldest events limited by page size when Successful")
+  void lockOldestEvents_ReturnsOldestEvents_WhenSuccessful() {
+    OutboxEvent first = this.outboxEventRepository.save(outboxEventToBeSaved(1L));
+    OutboxEvent second = this.outboxEventRepository.save(outboxEventToBeSaved(2L));
+    this.outboxEventRepository.save(outboxEventToBeSaved(3L));
+
+    List<OutboxEvent> events = this.outboxEventRepository.lockOldestEvents(PageRequest.of(0, 2));
+
+    Assertions.assertThat(events).extracting(OutboxEvent::getId).containsExactly(first.getId(), second.getId());
+  }
+
+  private OutboxEvent outboxEventToBeSaved(Long taskId) {
+    OutboxEvent outboxEvent = new OutboxEvent();
+    outboxEvent.setType("created");
+    outboxEvent.setTaskId(taskId);
+    outboxEvent.setPayload("{}");
+    return outboxEvent;
+  }
+}
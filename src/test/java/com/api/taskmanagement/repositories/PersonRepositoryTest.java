@@ -10,7 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import com.api.taskmanagement.dtos.responses.ListPeopleDto;
-import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
+import com.api.taskmanagement.dtos.responses.PersonResponseDto;
 import com.api.taskmanagement.models.*;
 import com.api.taskmanagement.util.*;
 
@@ -87,26 +87,29 @@ public class PersonRepositoryTest {
   }
 
   @Test
-  @DisplayName("Find With Duration Average returns a list of PersonExpensesDto when Successful")
-  void findAllWithDurationAverage_returnsPersonExpensesDto_WhenSuccessful() {
+  @DisplayName("Find Response By Id returns the person projection with its department id when Successful")
+  void findResponseById_ReturnsPersonResponseDto_WhenSuccessful() {
+    Department departmentSaved = this.departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
     Person personToBeSaved = PersonCreator.createPersonToBeSaved();
+    personToBeSaved.setDepartment(departmentSaved);
     Person personSaved = this.personRepository.save(personToBeSaved);
 
-    Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
-    taskToBeSaved.setPerson(personSaved);
-    this.taskRepository.save(taskToBeSaved);
-
-    List<PersonExpensesDto> personExpenses = this.personRepository.findWithDurationAverage(personSaved.getName());
+    Optional<PersonResponseDto> person = this.personRepository.findResponseById(personSaved.getId());
 
-    Assertions.assertThat(personExpenses).isNotEmpty().hasSize(1);
+    Assertions.assertThat(person).isPresent();
+    Assertions.assertThat(person.get().getName()).isEqualTo(personSaved.getName());
+    Assertions.assertThat(person.get().getDepartment_id()).isEqualTo(departmentSaved.getId());
   }
 
   @Test
-  @DisplayName("Find With Duration Average returns a empty list of PersonExpensesDto when not found")
-  void findAllWithDurationAverage_returnsEmptyListPersonExpensesDto_WhenNotFound() {
-    List<PersonExpensesDto> personExpenses = this.personRepository.findWithDurationAverage("Alan");
+  @DisplayName("Find Response By Id returns the person projection when the person has no department")
+  void findResponseById_ReturnsPersonResponseDto_WhenPersonHasNoDepartment() {
+    Person personSaved = this.personRepository.save(PersonCreator.createPersonToBeSaved());
 
-    Assertions.assertThat(personExpenses).isEmpty();
+    Optional<PersonResponseDto> person = this.personRepository.findResponseById(personSaved.getId());
+
+    Assertions.assertThat(person).isPresent();
+    Assertions.assertThat(person.get().getDepartment_id()).isNull();
   }
 
   @Test
@@ -122,10 +125,31 @@ public class PersonRepositoryTest {
     taskToBeSaved.setDepartment(departmentSaved);
     taskToBeSaved.setPerson(personSaved);
     this.taskRepository.save(taskToBeSaved);
+    this.personRepository.incrementTaskAggregates(personSaved.getId(), 1, taskToBeSaved.getDuration());
 
     List<ListPeopleDto> listPeople = this.personRepository.findAllWithDepartmentAndTaskDuration();
 
     Assertions.assertThat(listPeople).isNotEmpty().hasSize(1);
+    Assertions.assertThat(listPeople.get(0).getSum_duration()).isEqualTo(Long.valueOf(taskToBeSaved.getDuration()));
+  }
+
+  @Test
+  @DisplayName("Increment Task Aggregates adds the deltas to the stored aggregates when Successful")
+  void incrementTaskAggregates_AddsDeltas_WhenSuccessful() {
+    Department departmentSaved = this.departmentRepository.save(DepartmentCreator.createValidDepartment());
+
+    Person personToBeSaved = PersonCreator.createPersonToBeSaved();
+    personToBeSaved.setDepartment(departmentSaved);
+    Person personSaved = this.personRepository.save(personToBeSaved);
+
+    this.personRepository.incrementTaskAggregates(personSaved.getId(), 2, 7);
+    int updated = this.personRepository.incrementTaskAggregates(personSaved.getId(), -1, -3);
+
+    List<ListPeopleDto> listPeople = this.personRepository.findAllWithDepartmentAndTaskDuration();
+
+    Assertions.assertThat(updated).isEqualTo(1);
+    Assertions.assertThat(listPeople).hasSize(1);
+    Assertions.assertThat(listPeople.get(0).getSum_duration()).isEqualTo(4L);
   }
 
   @Test
@@ -0,0 +1,69 @@
+package com.api.taskmanagement.repositories;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
+import com.api.taskmanagement.models.Person;
+
+@DataJpaTest
+@Import(PersonSearchRepository.class)
+@DisplayName("Tests for Person Search Repository")
+public class PersonSearchRepositoryTest {
+  @Autowired
+  private PersonSearchRepository personSearchRepository;
+
+  @Autowired
+  private PersonRepository personRepository;
+
+  @Test
+  @DisplayName("Search returns prefix matches before typo matches when Successful")
+  void searchWithDurationAverage_ReturnsPrefixMatchesFirst_WhenSuccessful() {
+    savePerson("Allan", 2L, 10L);
+    savePerson("Alan", 1L, 3L);
+    savePerson("Bruno", 1L, 3L);
+    this.personRepository.flush();
+
+    List<PersonExpensesDto> people = this.personSearchRepository.searchWithDurationAverage("Alan", 10, 0);
+
+    Assertions.assertThat(people).extracting(PersonExpensesDto::getName).containsExactly("Alan", "Allan");
+    Assertions.assertThat(people.get(1).getAvg_duration()).isEqualTo(5.0);
+  }
+
+  @Test
+  @DisplayName("Search matches names by case insensitive prefix")
+  void searchWithDurationAverage_MatchesPrefix_WhenSuccessful() {
+    savePerson("Alan", 1L, 3L);
+    savePerson("Alice", 1L, 3L);
+    savePerson("Bruno", 1L, 3L);
+    this.personRepository.flush();
+
+    List<PersonExpensesDto> people = this.personSearchRepository.searchWithDurationAverage("al", 10, 0);
+
+    Assertions.assertThat(people).extracting(PersonExpensesDto::getName).containsExactly("Alan", "Alice");
+  }
+
+  @Test
+  @DisplayName("Search ignores people without tasks")
+  void searchWithDurationAverage_IgnoresPeopleWithoutTasks_WhenSuccessful() {
+    savePerson("Alan", 0L, 0L);
+    this.personRepository.flush();
+
+    List<PersonExpensesDto> people = this.personSearchRepository.searchWithDurationAverage("Alan", 10, 0);
+
+    Assertions.assertThat(people).isEmpty();
+  }
+
+  private Person savePerson(String name, Long taskCount, Long durationSum) {
+    Person person = Person.builder().name(name).build();
+    person.setTaskCount(taskCount);
+    person.setDurationSum(durationSum);
+    return this.personRepository.save(person);
+  }
+}
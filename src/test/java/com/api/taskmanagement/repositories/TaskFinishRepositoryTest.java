@@ -0,0 +1,112 @@
+package com.api.taskmanagement.repositories;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
+import com.api.taskmanagement.dtos.responses.TaskExportDto;
+import com.api.taskmanagement.models.Department;
+import com.api.taskmanagement.models.OutboxEvent;
+import com.api.taskmanagement.models.Task;
+import com.api.taskmanagement.util.DepartmentCreator;
+import com.api.taskmanagement.util.TaskCreator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DataJpaTest
+@Import(TaskFinishRepository.class)
+@DisplayName("Tests for Task Finish Repository")
+public class TaskFinishRepositoryTest {
+  @Autowired
+  private TaskFinishRepository taskFinishRepository;
+
+  @Autowired
+  private DepartmentRepository departmentRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
+  @Test
+  @DisplayName("Finish By Ids finishes only the pending tasks and bumps their version")
+  void finishByIds_FinishesPendingTasks_WhenSuccessful() {
+    Task pendingTask = this.taskRepository.save(TaskCreator.createTaskToBeSaved());
+    Task finishedTask = TaskCreator.createTaskToBeSaved();
+    finishedTask.setFinished(true);
+    finishedTask = this.taskRepository.save(finishedTask);
+    Task otherTask = this.taskRepository.save(TaskCreator.createTaskToBeSaved());
+    this.taskRepository.flush();
+    Long version = pendingTask.getVersion();
+
+    int finished = this.taskFinishRepository.finishByIds(List.of(pendingTask.getId(), finishedTask.getId(), otherTask.getId() + 100));
+    Optional<EntityVersionDto> pendingVersion = this.taskRepository.findVersionById(pendingTask.getId());
+
+    Assertions.assertThat(finished).isEqualTo(1);
+    Assertions.assertThat(pendingVersion).isPresent();
+    Assertions.assertThat(pendingVersion.get().getVersion()).isEqualTo(version + 1);
+    Assertions.assertThat(exportedFinishedStates()).containsExactly(true, true, false);
+  }
+
+  @Test
+  @DisplayName("Finish By Ids records a finished outbox event for every finished task")
+  void finishByIds_RecordsOutboxEvents_WhenSuccessful() throws Exception {
+    Task pendingTask = this.taskRepository.save(TaskCreator.createTaskToBeSaved());
+    Task finishedTask = TaskCreator.createTaskToBeSaved();
+    finishedTask.setFinished(true);
+    finishedTask = this.taskRepository.save(finishedTask);
+    this.taskRepository.flush();
+
+    this.taskFinishRepository.finishByIds(List.of(pendingTask.getId(), finishedTask.getId()));
+    List<OutboxEvent> events = this.outboxEventRepository.findAll();
+
+    Assertions.assertThat(events).hasSize(1);
+    Assertions.assertThat(events.get(0).getType()).isEqualTo("finished");
+    Assertions.assertThat(events.get(0).getTaskId()).isEqualTo(pendingTask.getId());
+    Assertions.assertThat(events.get(0).getCreatedAt()).isNotNull();
+    JsonNode payload = new ObjectMapper().readTree(events.get(0).getPayload());
+    Assertions.assertThat(payload.path("type").asText()).isEqualTo("finished");
+    Assertions.assertThat(payload.path("task").path("id").asLong()).isEqualTo(pendingTask.getId());
+    Assertions.assertThat(payload.path("task").path("title").asText()).isEqualTo(pendingTask.getTitle());
+    Assertions.assertThat(payload.path("task").path("deadline").asText()).isEqualTo(pendingTask.getDeadline().toString());
+    Assertions.assertThat(payload.path("task").path("finished").asBoolean()).isTrue();
+    Assertions.assertThat(payload.path("task").path("person_id").isNull()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Finish Matching finishes the pending tasks of the department due before the deadline")
+  void finishMatching_FinishesMatchingTasks_WhenSuccessful() {
+    Department department = this.departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Department otherDepartment = this.departmentRepository.save(DepartmentCreator.createOtherDepartmentToBeSaved());
+    for (Object[] row : List.of(new Object[] {department, "2022-12-10"}, new Object[] {department, "2022-12-20"},
+        new Object[] {department, "2023-01-10"}, new Object[] {otherDepartment, "2022-12-10"})) {
+      Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
+      taskToBeSaved.setDepartment((Department) row[0]);
+      taskToBeSaved.setDeadline(Date.valueOf((String) row[1]));
+      this.taskRepository.save(taskToBeSaved);
+    }
+    this.taskRepository.flush();
+
+    int finished = this.taskFinishRepository.finishMatching(department.getId(), null, Date.valueOf("2023-01-01"));
+
+    Assertions.assertThat(finished).isEqualTo(2);
+    Assertions.assertThat(exportedFinishedStates()).containsExactly(true, true, false, false);
+    Assertions.assertThat(this.outboxEventRepository.findAll()).hasSize(2);
+  }
+
+  private List<Boolean> exportedFinishedStates() {
+    try (Stream<TaskExportDto> tasks = this.taskRepository.streamAllForExport()) {
+      return tasks.map(TaskExportDto::getFinished).toList();
+    }
+  }
+}
@@ -1,16 +1,26 @@
 package com.api.taskmanagement.repositories;
 
+import java.sql.Date;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
+import com.api.taskmanagement.dtos.requests.TaskFilterDto;
+import com.api.taskmanagement.dtos.responses.EntityVersionDto;
+import com.api.taskmanagement.dtos.responses.TaskExportDto;
+import com.api.taskmanagement.models.Department;
 import com.api.taskmanagement.models.Person;
 import com.api.taskmanagement.models.Task;
+import com.api.taskmanagement.util.DepartmentCreator;
 import com.api.taskmanagement.util.PersonCreator;
 import com.api.taskmanagement.util.TaskCreator;
 
@@ -22,6 +32,9 @@ public class TaskRepositoryTest {
 
   @Autowired
   private PersonRepository personRepository;
+
+  @Autowired
+  private DepartmentRepository departmentRepository;
   
   @Test
   @DisplayName("Save persists task when Successful")
@@ -84,8 +97,20 @@ public class TaskRepositoryTest {
   }
 
   @Test
-  @DisplayName("Find Three Oldest Tasks Without Person returns a list of tasks when Successful")
-  void findThreeOldestTasksWithoutTask_ReturnsListOfTask_WhenSuccessful() {
+  @DisplayName("Find Version By Id returns the version and update timestamp of the task when Successful")
+  void findVersionById_ReturnsVersionAndUpdatedAt_WhenSuccessful() {
+    Task taskSaved = this.taskRepository.saveAndFlush(TaskCreator.createTaskToBeSaved());
+
+    Optional<EntityVersionDto> version = this.taskRepository.findVersionById(taskSaved.getId());
+
+    Assertions.assertThat(version).isPresent();
+    Assertions.assertThat(version.get().getVersion()).isEqualTo(taskSaved.getVersion());
+    Assertions.assertThat(version.get().getUpdated_at()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Find Oldest Tasks Without Person returns a list of tasks when Successful")
+  void findOldestTasksWithoutPerson_ReturnsListOfTask_WhenSuccessful() {
     Task taskToBeSavedWithoutPerson = TaskCreator.createTaskToBeSaved();
     this.taskRepository.save(taskToBeSavedWithoutPerson);
 
@@ -95,19 +120,146 @@ public class TaskRepositoryTest {
     taskToBeSavedWithPerson.setPerson(personSaved);
     this.taskRepository.save(taskToBeSavedWithPerson);
 
-    List<Task> tasks = this.taskRepository.findThreeOldestTasksWithoutPerson();
+    List<Task> tasks = this.taskRepository.findOldestTasksWithoutPerson(PageRequest.of(0, 3));
 
     Assertions.assertThat(tasks).isNotEmpty().hasSize(1);
   }
 
   @Test
-  @DisplayName("Find Three Oldest Tasks Without Person returns a empty list of tasks when Successful")
-  void findThreeOldestTasksWithoutTask_ReturnsEmptyListOfTask_WhenNotFound() {
-    List<Task> tasks = this.taskRepository.findThreeOldestTasksWithoutPerson();
+  @DisplayName("Lock Oldest Tasks Without Person returns the oldest pending task of the department")
+  void lockOldestTasksWithoutPerson_ReturnsOldestPendingTaskOfDepartment_WhenSuccessful() {
+    Department department = this.departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Department otherDepartment = this.departmentRepository.save(DepartmentCreator.createOtherDepartmentToBeSaved());
+
+    Task otherDepartmentTask = TaskCreator.createTaskToBeSaved();
+    otherDepartmentTask.setDeadline(Date.valueOf("2022-11-01"));
+    otherDepartmentTask.setDepartment(otherDepartment);
+    this.taskRepository.save(otherDepartmentTask);
+
+    for (String deadline : List.of("2022-12-30", "2022-12-10")) {
+      Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
+      taskToBeSaved.setDeadline(Date.valueOf(deadline));
+      taskToBeSaved.setDepartment(department);
+      this.taskRepository.save(taskToBeSaved);
+    }
+
+    List<Task> tasks = this.taskRepository.lockOldestTasksWithoutPerson(department.getId(), PageRequest.of(0, 1));
+
+    Assertions.assertThat(tasks).hasSize(1);
+    Assertions.assertThat(tasks.get(0).getDeadline()).isEqualTo(Date.valueOf("2022-12-10"));
+    Assertions.assertThat(tasks.get(0).getDepartment()).isEqualTo(department);
+  }
+
+  @Test
+  @DisplayName("Find Oldest Tasks Without Person returns at most the requested number of tasks ordered by deadline")
+  void findOldestTasksWithoutPerson_ReturnsLimitedTasksOrderedByDeadline_WhenSuccessful() {
+    for (String deadline : List.of("2022-12-30", "2022-12-10", "2022-12-20", "2022-12-01")) {
+      Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
+      taskToBeSaved.setDeadline(Date.valueOf(deadline));
+      this.taskRepository.save(taskToBeSaved);
+    }
+
+    List<Task> tasks = this.taskRepository.findOldestTasksWithoutPerson(PageRequest.of(0, 2));
+
+    Assertions.assertThat(tasks).extracting(Task::getDeadline)
+      .containsExactly(Date.valueOf("2022-12-01"), Date.valueOf("2022-12-10"));
+  }
+
+  @Test
+  @DisplayName("Find Oldest Tasks Without Person returns a empty list of tasks when Successful")
+  void findOldestTasksWithoutPerson_ReturnsEmptyListOfTask_WhenNotFound() {
+    List<Task> tasks = this.taskRepository.findOldestTasksWithoutPerson(PageRequest.of(0, 3));
 
     Assertions.assertThat(tasks).isEmpty();
   }
 
+  @Test
+  @DisplayName("Find First Page returns tasks ordered by deadline and id limited by page size when Successful")
+  void findFirstPage_ReturnsOrderedTasks_WhenSuccessful() {
+    Task laterTask = TaskCreator.createTaskToBeSaved();
+    laterTask.setDeadline(Date.valueOf("2023-01-15"));
+    this.taskRepository.save(laterTask);
+    Task firstTask = this.taskRepository.save(TaskCreator.createTaskToBeSaved());
+    Task secondTask = this.taskRepository.save(TaskCreator.createTaskToBeSaved());
+
+    List<Task> tasks = this.taskRepository.findFirstPage(PageRequest.of(0, 2));
+
+    Assertions.assertThat(tasks).hasSize(2);
+    Assertions.assertThat(tasks.get(0).getId()).isEqualTo(firstTask.getId());
+    Assertions.assertThat(tasks.get(1).getId()).isEqualTo(secondTask.getId());
+  }
+
+  @Test
+  @DisplayName("Find Page After returns tasks positioned after the given deadline and id when Successful")
+  void findPageAfter_ReturnsTasksAfterPosition_WhenSuccessful() {
+    Task laterTask = TaskCreator.createTaskToBeSaved();
+    laterTask.setDeadline(Date.valueOf("2023-01-15"));
+    laterTask = this.taskRepository.save(laterTask);
+    Task firstTask = this.taskRepository.save(TaskCreator.createTaskToBeSaved());
+    Task secondTask = this.taskRepository.save(TaskCreator.createTaskToBeSaved());
+
+    List<Task> tasks = this.taskRepository.findPageAfter(firstTask.getDeadline(), firstTask.getId(), PageRequest.of(0, 10));
+
+    Assertions.assertThat(tasks).hasSize(2);
+    Assertions.assertThat(tasks.get(0).getId()).isEqualTo(secondTask.getId());
+    Assertions.assertThat(tasks.get(1).getId()).isEqualTo(laterTask.getId());
+  }
+
+  @Test
+  @DisplayName("Stream All For Export returns every task including the ones without person when Successful")
+  void streamAllForExport_ReturnsEveryTask_WhenSuccessful() {
+    this.taskRepository.save(TaskCreator.createTaskToBeSaved());
+
+    Person personSaved = this.personRepository.save(PersonCreator.createPersonToBeSaved());
+    Task taskToBeSavedWithPerson = TaskCreator.createTaskToBeSaved();
+    taskToBeSavedWithPerson.setPerson(personSaved);
+    this.taskRepository.save(taskToBeSavedWithPerson);
+
+    try (Stream<TaskExportDto> tasks = this.taskRepository.streamAllForExport()) {
+      List<TaskExportDto> exported = tasks.toList();
+
+      Assertions.assertThat(exported).hasSize(2);
+      Assertions.assertThat(exported.get(0).getPerson_id()).isNull();
+      Assertions.assertThat(exported.get(1).getPerson_id()).isEqualTo(personSaved.getId());
+    }
+  }
+
+  @Test
+  @DisplayName("Find All with specification returns only the tasks matching the filter when Successful")
+  void findAllWithSpecification_ReturnsMatchingTasks_WhenSuccessful() {
+    Department department = this.departmentRepository.save(DepartmentCreator.createDepartmentToBeSaved());
+    Department otherDepartment = this.departmentRepository.save(DepartmentCreator.createOtherDepartmentToBeSaved());
+    Task expectedTask = null;
+    for (Object[] row : List.of(new Object[] {department, false, "2022-12-10"}, new Object[] {department, true, "2022-12-11"},
+        new Object[] {department, false, "2023-01-10"}, new Object[] {otherDepartment, false, "2022-12-12"})) {
+      Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
+      taskToBeSaved.setDepartment((Department) row[0]);
+      taskToBeSaved.setFinished((Boolean) row[1]);
+      taskToBeSaved.setDeadline(Date.valueOf((String) row[2]));
+      Task taskSaved = this.taskRepository.save(taskToBeSaved);
+      expectedTask = expectedTask == null ? taskSaved : expectedTask;
+    }
+
+    TaskFilterDto filter = new TaskFilterDto(department.getId(), null, false, Date.valueOf("2022-12-01"), Date.valueOf("2022-12-31"), null);
+    List<Task> tasks = this.taskRepository.findAllLimited(TaskSpecifications.matching(filter), PageRequest.of(0, 20, Sort.by("deadline", "id")));
+
+    Assertions.assertThat(tasks).extracting(Task::getId).containsExactly(expectedTask.getId());
+  }
+
+  @Test
+  @DisplayName("Find All Limited returns only the requested page of the matching tasks")
+  void findAllLimited_ReturnsRequestedPage_WhenSuccessful() {
+    List<Long> ids = new ArrayList<>();
+    for (int index = 0; index < 5; index++) {
+      ids.add(this.taskRepository.save(TaskCreator.createTaskToBeSaved()).getId());
+    }
+
+    List<Task> tasks = this.taskRepository.findAllLimited(TaskSpecifications.matching(new TaskFilterDto()),
+      PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "id")));
+
+    Assertions.assertThat(tasks).extracting(Task::getId).containsExactly(ids.get(2), ids.get(1));
+  }
+
   @Test
   @DisplayName("Find All returns a list of tasks when Successful")
   void findAll_ReturnsListOfTask_WhenSuccessful() {
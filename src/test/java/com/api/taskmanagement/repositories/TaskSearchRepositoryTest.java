@@ -0,0 +1,57 @@
+package com.api.taskmanagement.repositories;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.models.Task;
+import com.api.taskmanagement.util.TaskCreator;
+
+@DataJpaTest
+@Import(TaskSearchRepository.class)
+@DisplayName("Tests for Task Search Repository")
+public class TaskSearchRepositoryTest {
+  @Autowired
+  private TaskSearchRepository taskSearchRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Test
+  @DisplayName("Search returns title matches before description matches when Successful")
+  void search_ReturnsTitleMatchesFirst_WhenSuccessful() {
+    Task descriptionMatch = saveTask("Review", "Update the invoice template");
+    Task titleMatch = saveTask("Invoice export", "A Task");
+    saveTask("Deploy", "A Task");
+    this.taskRepository.flush();
+
+    List<TaskResponseDto> tasks = this.taskSearchRepository.search("invoice", 10, 0);
+
+    Assertions.assertThat(tasks).extracting(TaskResponseDto::getId).containsExactly(titleMatch.getId(), descriptionMatch.getId());
+  }
+
+  @Test
+  @DisplayName("Search treats like wildcards in the query as plain characters")
+  void search_EscapesWildcards_WhenQueryContainsThem() {
+    saveTask("Deploy", "A Task");
+    saveTask("100% done", "A Task");
+    this.taskRepository.flush();
+
+    List<TaskResponseDto> tasks = this.taskSearchRepository.search("%", 10, 0);
+
+    Assertions.assertThat(tasks).extracting(TaskResponseDto::getTitle).containsExactly("100% done");
+  }
+
+  private Task saveTask(String title, String description) {
+    Task taskToBeSaved = TaskCreator.createTaskToBeSaved();
+    taskToBeSaved.setTitle(title);
+    taskToBeSaved.setDescription(description);
+    return this.taskRepository.save(taskToBeSaved);
+  }
+}
@@ -0,0 +1,58 @@
+package com.api.taskmanagement.services;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.api.taskmanagement.models.Department;
+import com.api.taskmanagement.models.Person;
+import com.api.taskmanagement.repositories.DepartmentRepository;
+import com.api.taskmanagement.util.DepartmentCreator;
+
+@ExtendWith(SpringExtension.class)
+public class DepartmentCacheServiceTest {
+  @InjectMocks
+  private DepartmentCacheService departmentCacheService;
+
+  @Mock
+  private DepartmentRepository departmentRepositoryMock;
+
+  @BeforeEach
+  void setUp() {
+    Department department = DepartmentCreator.createValidDepartment();
+    department.setPeople(List.of(new Person()));
+
+    BDDMockito.when(departmentRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(department));
+  }
+
+  @Test
+  @DisplayName("findById returns a department snapshot without collections when successful")
+  void findById_ReturnsDepartmentSnapshot_WhenSuccessful() {
+    Optional<Department> department = departmentCacheService.findById(1L);
+
+    Assertions.assertThat(department).isPresent();
+    Assertions.assertThat(department.get().getId()).isEqualTo(1L);
+    Assertions.assertThat(department.get().getTitle()).isEqualTo("RH");
+    Assertions.assertThat(department.get().getPeople()).isNull();
+  }
+
+  @Test
+  @DisplayName("findById returns nothing when is not found")
+  void findById_ReturnsNothing_WhenNotFound() {
+    BDDMockito.when(departmentRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.empty());
+
+    Assertions.assertThat(departmentCacheService.findById(1L)).isEmpty();
+  }
+}
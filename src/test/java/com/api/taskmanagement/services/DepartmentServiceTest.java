@@ -12,8 +12,12 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.api.taskmanagement.dtos.responses.DepartmentEventDto;
+import com.api.taskmanagement.dtos.responses.DepartmentResponseDto;
 import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
 import com.api.taskmanagement.models.Department;
 import com.api.taskmanagement.repositories.DepartmentRepository;
@@ -27,6 +31,9 @@ public class DepartmentServiceTest {
   @Mock
   private DepartmentRepository departmentRepositoryMock;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisherMock;
+
   @BeforeEach
   void setUp() {
     ListDepartmentDto listDepartment = new ListDepartmentDto(1L, "RH", 1L, 1L);
@@ -35,12 +42,18 @@ public class DepartmentServiceTest {
 
     BDDMockito.when(departmentRepositoryMock.findById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.of(DepartmentCreator.createValidDepartment()));
+
+    BDDMockito.when(departmentRepositoryMock.findResponseById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(DepartmentCreator.createValidDepartmentResponse()));
     
     BDDMockito.when(departmentRepositoryMock.findByTitle(ArgumentMatchers.anyString()))
       .thenReturn(Optional.of(DepartmentCreator.createValidDepartment()));
 
     BDDMockito.when(departmentRepositoryMock.save(ArgumentMatchers.any(Department.class)))
       .thenReturn(DepartmentCreator.createValidDepartment());
+
+    BDDMockito.when(departmentRepositoryMock.saveAndFlush(ArgumentMatchers.any(Department.class)))
+      .thenReturn(DepartmentCreator.createValidDepartment());
     
     BDDMockito.doNothing().when(departmentRepositoryMock).delete(ArgumentMatchers.any(Department.class));
   }
@@ -74,7 +87,7 @@ public class DepartmentServiceTest {
   void findById_ReturnsDepartment_WhenSuccessful() {
     Long expectedId = DepartmentCreator.createValidDepartment().getId();
 
-    Optional<Department> department = departmentService.findById(1L);
+    Optional<DepartmentResponseDto> department = departmentService.findById(1L);
 
     Assertions.assertThat(department).isNotNull().isPresent();
     Assertions.assertThat(department.get().getId()).isEqualTo(expectedId);
@@ -83,10 +96,10 @@ public class DepartmentServiceTest {
   @Test
   @DisplayName("findById returns nothing when is not found") 
   void findById_ReturnsNothing_WhenNotFound() {
-    BDDMockito.when(departmentRepositoryMock.findById(ArgumentMatchers.anyLong()))
+    BDDMockito.when(departmentRepositoryMock.findResponseById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.empty());
 
-    Optional<Department> department = departmentService.findById(1L);
+    Optional<DepartmentResponseDto> department = departmentService.findById(1L);
 
     Assertions.assertThat(department).isNotNull().isEmpty();
   }
@@ -94,29 +107,54 @@ public class DepartmentServiceTest {
   @Test
   @DisplayName("create returns department when successful")
   void create_ReturnsDepartment_WhenSuccessful() {
-    Department department = departmentService.create(new Department());
+    DepartmentResponseDto department = departmentService.create(new Department());
+
+    Assertions.assertThat(department).isNotNull().isEqualTo(DepartmentCreator.createValidDepartmentResponse());
+  }
+
+  @Test
+  @DisplayName("create returns the existing department when the title already exists")
+  void create_ReturnsExistingDepartment_WhenTitleAlreadyExists() {
+    BDDMockito.when(departmentRepositoryMock.saveAndFlush(ArgumentMatchers.any(Department.class)))
+      .thenThrow(new DataIntegrityViolationException("departments_title_key"));
+
+    DepartmentResponseDto department = departmentService.create(DepartmentCreator.createDepartmentToBeSaved());
+
+    Assertions.assertThat(department).isEqualTo(DepartmentCreator.createValidDepartmentResponse());
+  }
+
+  @Test
+  @DisplayName("create rethrows the violation when no department has the title")
+  void create_ThrowsDataIntegrityViolationException_WhenTitleIsNotFound() {
+    BDDMockito.when(departmentRepositoryMock.saveAndFlush(ArgumentMatchers.any(Department.class)))
+      .thenThrow(new DataIntegrityViolationException("not null"));
+    BDDMockito.when(departmentRepositoryMock.findByTitle(ArgumentMatchers.anyString()))
+      .thenReturn(Optional.empty());
 
-    Assertions.assertThat(department).isNotNull().isEqualTo(DepartmentCreator.createValidDepartment());
+    Assertions.assertThatThrownBy(() -> departmentService.create(DepartmentCreator.createDepartmentToBeSaved()))
+      .isInstanceOf(DataIntegrityViolationException.class);
   }
 
   @Test
   @DisplayName("update returns department when successful")
   void update_ReturnsDepartment_WhenSuccessful() {
-    Department department = departmentService.create(new Department());
+    DepartmentResponseDto department = departmentService.create(new Department());
     
     BDDMockito.when(departmentRepositoryMock.save(ArgumentMatchers.any(Department.class)))
       .thenReturn(DepartmentCreator.createValidUpdatedDepartment());
 
-    Department updatedDepartment = departmentService.update(1L, "Marketing");
+    DepartmentResponseDto updatedDepartment = departmentService.update(1L, "Marketing");
 
-    Assertions.assertThat(updatedDepartment).isNotNull().isEqualTo(DepartmentCreator.createValidUpdatedDepartment());
+    Assertions.assertThat(updatedDepartment).isNotNull().isEqualTo(DepartmentCreator.createValidUpdatedDepartmentResponse());
     Assertions.assertThat(updatedDepartment.getId()).isNotNull().isEqualTo(department.getId());
     Assertions.assertThat(updatedDepartment.getTitle()).isNotNull().isNotEqualTo(department.getTitle());
+    BDDMockito.verify(eventPublisherMock).publishEvent(new DepartmentEventDto(1L));
   }
 
   @Test
   @DisplayName("delete removes department when successful")
   void delete_RemovesDepartment_WhenSuccessful() {
     Assertions.assertThatCode(() -> departmentService.delete(1L)).doesNotThrowAnyException();
+    BDDMockito.verify(eventPublisherMock).publishEvent(new DepartmentEventDto(1L));
   }
 }
@@ -0,0 +1,117 @@
+package com.api.taskmanagement.services;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.time.Instant;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.api.taskmanagement.dtos.responses.TaskEventDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.models.OutboxEvent;
+import com.api.taskmanagement.repositories.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(SpringExtension.class)
+public class OutboxServiceTest {
+  @InjectMocks
+  private OutboxService outboxService;
+
+  @Mock
+  private OutboxEventRepository outboxEventRepositoryMock;
+
+  @Mock
+  private OutboxSink outboxSinkMock;
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  @Spy
+  private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("record saves the serialized task event in the outbox when successful")
+  void record_SavesOutboxEvent_WhenSuccessful() {
+    TaskResponseDto task = new TaskResponseDto(1L, "Task 1", "A Task", Date.valueOf("2022-12-30"), 2, false, 1L, null);
+
+    outboxService.record(new TaskEventDto(TaskEventService.CREATED, task));
+
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    Mockito.verify(outboxEventRepositoryMock).save(captor.capture());
+    Assertions.assertThat(captor.getValue().getType()).isEqualTo(TaskEventService.CREATED);
+    Assertions.assertThat(captor.getValue().getTaskId()).isEqualTo(1L);
+    Assertions.assertThat(captor.getValue().getPayload()).contains("\"type\":\"created\"").contains("\"title\":\"Task 1\"");
+  }
+
+  @Test
+  @DisplayName("refreshPending stores the outbox size for the pending gauge")
+  void refreshPending_UpdatesPendingGauge_WhenCalled() {
+    BDDMockito.when(outboxEventRepositoryMock.count()).thenReturn(3L);
+    outboxService.registerMetrics();
+
+    outboxService.refreshPending();
+    outboxService.refreshPending();
+
+    Assertions.assertThat(meterRegistry.get(OutboxService.PENDING_GAUGE).gauge().value()).isEqualTo(3.0);
+    Mockito.verify(outboxEventRepositoryMock, Mockito.times(2)).count();
+  }
+
+  @Test
+  @DisplayName("relayBatch publishes and deletes the locked events and records the delivery lag when successful")
+  void relayBatch_PublishesAndDeletesEvents_WhenSuccessful() throws IOException {
+    List<OutboxEvent> events = List.of(outboxEvent(1L), outboxEvent(2L));
+    BDDMockito.when(outboxEventRepositoryMock.lockOldestEvents(ArgumentMatchers.any(Pageable.class))).thenReturn(events);
+
+    int relayed = outboxService.relayBatch(10);
+
+    Assertions.assertThat(relayed).isEqualTo(2);
+    Mockito.verify(outboxSinkMock).publish(events);
+    Mockito.verify(outboxEventRepositoryMock).deleteAllInBatch(events);
+    Assertions.assertThat(meterRegistry.get(OutboxService.DELIVERED_COUNTER).counter().count()).isEqualTo(2.0);
+    Assertions.assertThat(meterRegistry.get(OutboxService.LAG_TIMER).timer().count()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("relayBatch keeps the events in the outbox when the sink fails")
+  void relayBatch_KeepsEvents_WhenSinkFails() throws IOException {
+    List<OutboxEvent> events = List.of(outboxEvent(1L));
+    BDDMockito.when(outboxEventRepositoryMock.lockOldestEvents(ArgumentMatchers.any(Pageable.class))).thenReturn(events);
+    BDDMockito.doThrow(new IOException("unavailable")).when(outboxSinkMock).publish(events);
+
+    Assertions.assertThatThrownBy(() -> outboxService.relayBatch(10))
+      .isInstanceOf(Error.class)
+      .hasMessage("Could not deliver the outbox events");
+
+    Mockito.verify(outboxEventRepositoryMock, Mockito.never()).deleteAllInBatch(ArgumentMatchers.anyIterable());
+  }
+
+  @Test
+  @DisplayName("relayBatch returns zero without calling the sink when the outbox is empty")
+  void relayBatch_ReturnsZero_WhenOutboxIsEmpty() throws IOException {
+    BDDMockito.when(outboxEventRepositoryMock.lockOldestEvents(ArgumentMatchers.any(Pageable.class))).thenReturn(List.of());
+
+    Assertions.assertThat(outboxService.relayBatch(10)).isZero();
+
+    Mockito.verifyNoInteractions(outboxSinkMock);
+  }
+
+  private OutboxEvent outboxEvent(Long id) {
+    return new OutboxEvent(id, TaskEventService.CREATED, id, "{}", Instant.now().minusSeconds(1));
+  }
+}
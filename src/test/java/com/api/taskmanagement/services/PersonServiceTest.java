@@ -17,9 +17,12 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import com.api.taskmanagement.dtos.requests.PersonDto;
 import com.api.taskmanagement.dtos.responses.ListPeopleDto;
 import com.api.taskmanagement.dtos.responses.PersonExpensesDto;
+import com.api.taskmanagement.dtos.responses.PersonExpensesPageDto;
+import com.api.taskmanagement.dtos.responses.PersonResponseDto;
 import com.api.taskmanagement.models.Person;
 import com.api.taskmanagement.repositories.DepartmentRepository;
 import com.api.taskmanagement.repositories.PersonRepository;
+import com.api.taskmanagement.repositories.PersonSearchRepository;
 import com.api.taskmanagement.util.DepartmentCreator;
 import com.api.taskmanagement.util.PersonCreator;
 
@@ -34,15 +37,23 @@ public class PersonServiceTest {
   @Mock
   private DepartmentRepository departmentRepositoryMock;
 
+  @Mock
+  private DepartmentCacheService departmentCacheServiceMock;
+
+  @Mock
+  private PersonSearchRepository personSearchRepositoryMock;
+
   @BeforeEach
   void setUp() {
     PersonExpensesDto personExpenses = new PersonExpensesDto(1L, "Alan", 2.0);
     ListPeopleDto listPeople = new ListPeopleDto(1L, "Alan", "Desenvolvimento", 10L);
 
-    BDDMockito.when(departmentRepositoryMock.findById(ArgumentMatchers.anyLong()))
+    BDDMockito.when(departmentCacheServiceMock.findById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.of(DepartmentCreator.createValidDepartment()));
+    BDDMockito.when(departmentRepositoryMock.getReferenceById(ArgumentMatchers.anyLong()))
+      .thenReturn(DepartmentCreator.createValidDepartment());
 
-    BDDMockito.when(personRepositoryMock.findWithDurationAverage(ArgumentMatchers.anyString()))
+    BDDMockito.when(personSearchRepositoryMock.searchWithDurationAverage(ArgumentMatchers.anyString(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyLong()))
       .thenReturn(List.of(personExpenses));
 
     BDDMockito.when(personRepositoryMock.findAllWithDepartmentAndTaskDuration())
@@ -51,6 +62,9 @@ public class PersonServiceTest {
     BDDMockito.when(personRepositoryMock.findById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.of(PersonCreator.createValidPerson()));
 
+    BDDMockito.when(personRepositoryMock.findResponseById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(PersonCreator.createValidPersonResponse()));
+
     BDDMockito.when(personRepositoryMock.save(ArgumentMatchers.any(Person.class)))
       .thenReturn(PersonCreator.createValidPerson());
     
@@ -85,7 +99,7 @@ public class PersonServiceTest {
   @DisplayName("findAllWithAvgDuration returns list of people with average task durations when successful") 
   void findAllWithAvgDuration_ReturnsListOfPeopleWithAverageTaskDurations_WhenSuccessful() {
     Person personSaved = PersonCreator.createValidPerson();
-    List<PersonExpensesDto> personExpenses = personService.findAllWithAvgDuration(personSaved.getName());
+    List<PersonExpensesDto> personExpenses = personService.findAllWithAvgDuration(personSaved.getName(), 0, 20).getContent();
 
     Assertions.assertThat(personExpenses).isNotNull().isNotEmpty().hasSize(1);
     Assertions.assertThat(personExpenses.get(0).getId()).isEqualTo(personSaved.getId());
@@ -96,20 +110,40 @@ public class PersonServiceTest {
   @Test
   @DisplayName("findAllWithAvgDuration returns a empty list of people when is not found") 
   void findAllWithAvgDuration_ReturnsEmptyListOfPeople_WhenIsNotFound() {
-    BDDMockito.when(personRepositoryMock.findWithDurationAverage(ArgumentMatchers.anyString()))
+    BDDMockito.when(personSearchRepositoryMock.searchWithDurationAverage(ArgumentMatchers.anyString(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyLong()))
       .thenReturn(List.of());
 
-    List<PersonExpensesDto> personExpenses = personService.findAllWithAvgDuration("Alan");
+    List<PersonExpensesDto> personExpenses = personService.findAllWithAvgDuration("Alan", 0, 20).getContent();
 
     Assertions.assertThat(personExpenses).isNotNull().isEmpty();
   }
 
+  @Test
+  @DisplayName("findAllWithAvgDuration returns the next page number when there are more matches")
+  void findAllWithAvgDuration_ReturnsNextPage_WhenThereAreMoreMatches() {
+    BDDMockito.when(personSearchRepositoryMock.searchWithDurationAverage("Al", 3, 4L))
+      .thenReturn(List.of(new PersonExpensesDto(1L, "Alan", 2.0), new PersonExpensesDto(2L, "Alice", 3.0), new PersonExpensesDto(3L, "Allan", 1.0)));
+
+    PersonExpensesPageDto page = personService.findAllWithAvgDuration("Al", 2, 2);
+
+    Assertions.assertThat(page.getContent()).extracting(PersonExpensesDto::getName).containsExactly("Alan", "Alice");
+    Assertions.assertThat(page.getNext_page()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("findAllWithAvgDuration throws error when the name is blank")
+  void findAllWithAvgDuration_ThrowsError_WhenNameIsBlank() {
+    Assertions.assertThatThrownBy(() -> personService.findAllWithAvgDuration(" ", 0, 20))
+      .isInstanceOf(Error.class)
+      .hasMessage("Name is required");
+  }
+
   @Test
   @DisplayName("findById returns person when successful") 
   void findById_ReturnsPerson_WhenSuccessful() {
     Long expectedId = PersonCreator.createValidPerson().getId();
 
-    Optional<Person> person = personService.findById(1L);
+    Optional<PersonResponseDto> person = personService.findById(1L);
 
     Assertions.assertThat(person).isNotNull().isPresent();
     Assertions.assertThat(person.get().getId()).isEqualTo(expectedId);
@@ -118,10 +152,10 @@ public class PersonServiceTest {
   @Test
   @DisplayName("findById returns nothing when is not found") 
   void findById_ReturnsNothing_WhenNotFound() {
-    BDDMockito.when(personRepositoryMock.findById(ArgumentMatchers.anyLong()))
+    BDDMockito.when(personRepositoryMock.findResponseById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.empty());
 
-    Optional<Person> person = personService.findById(1L);
+    Optional<PersonResponseDto> person = personService.findById(1L);
 
     Assertions.assertThat(person).isNotNull().isEmpty();
   }
@@ -129,22 +163,22 @@ public class PersonServiceTest {
   @Test
   @DisplayName("create returns person when successful")
   void create_ReturnsPerson_WhenSuccessful() {
-    Person person = personService.create(new PersonDto("Alan", 1L));
+    PersonResponseDto person = personService.create(new PersonDto("Alan", 1L));
 
-    Assertions.assertThat(person).isNotNull().isEqualTo(PersonCreator.createValidPerson());
+    Assertions.assertThat(person).isNotNull().isEqualTo(PersonCreator.createValidPersonResponse());
   }
 
   @Test
   @DisplayName("update returns person when successful")
   void update_ReturnsPerson_WhenSuccessful() {
-    Person person = personService.create(new PersonDto("Alan", 1L));
+    PersonResponseDto person = personService.create(new PersonDto("Alan", 1L));
     
     BDDMockito.when(personRepositoryMock.save(ArgumentMatchers.any(Person.class)))
       .thenReturn(PersonCreator.createValidUpdatedPerson());
 
-    Person updatedPerson = personService.update(1L, new PersonDto("Rafael", 1L));
+    PersonResponseDto updatedPerson = personService.update(1L, new PersonDto("Rafael", 1L));
 
-    Assertions.assertThat(updatedPerson).isNotNull().isEqualTo(PersonCreator.createValidUpdatedPerson());
+    Assertions.assertThat(updatedPerson).isNotNull().isEqualTo(PersonCreator.createValidUpdatedPersonResponse());
     Assertions.assertThat(updatedPerson.getId()).isNotNull().isEqualTo(person.getId());
     Assertions.assertThat(updatedPerson.getName()).isNotNull().isNotEqualTo(person.getName());
   }
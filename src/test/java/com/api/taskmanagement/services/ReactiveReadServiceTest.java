@@ -0,0 +1,86 @@
+package com.api.taskmanagement.services;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.api.taskmanagement.dtos.responses.ListDepartmentDto;
+import com.api.taskmanagement.dtos.responses.ListPeopleDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.repositories.DepartmentReactiveRepository;
+import com.api.taskmanagement.repositories.PersonReactiveRepository;
+import com.api.taskmanagement.repositories.TaskReactiveRepository;
+import com.api.taskmanagement.util.TaskCreator;
+
+import reactor.core.publisher.Flux;
+
+@ExtendWith(SpringExtension.class)
+public class ReactiveReadServiceTest {
+  @InjectMocks
+  private ReactiveReadService reactiveReadService;
+
+  @Mock
+  private TaskReactiveRepository taskReactiveRepositoryMock;
+
+  @Mock
+  private PersonReactiveRepository personReactiveRepositoryMock;
+
+  @Mock
+  private DepartmentReactiveRepository departmentReactiveRepositoryMock;
+
+  @BeforeEach
+  void setUp() {
+    BDDMockito.when(taskReactiveRepositoryMock.findOldestTasksWithoutPerson(ArgumentMatchers.anyInt()))
+      .thenReturn(Flux.just(TaskCreator.createValidTaskResponse()));
+
+    BDDMockito.when(personReactiveRepositoryMock.findAllWithDepartmentAndTaskDuration())
+      .thenReturn(Flux.just(new ListPeopleDto(1L, "Alan", "RH", 2L)));
+
+    BDDMockito.when(departmentReactiveRepositoryMock.findAllWithPeopleAndTasks())
+      .thenReturn(Flux.just(new ListDepartmentDto(1L, "RH", 1L, 1L)));
+  }
+
+  @Test
+  @DisplayName("findOldestTasksWithoutPerson returns pending tasks when successful")
+  void findOldestTasksWithoutPerson_ReturnsPendingTasks_WhenSuccessful() {
+    List<TaskResponseDto> tasks = reactiveReadService.findOldestTasksWithoutPerson(3).collectList().block();
+
+    Assertions.assertThat(tasks).containsExactly(TaskCreator.createValidTaskResponse());
+    BDDMockito.verify(taskReactiveRepositoryMock).findOldestTasksWithoutPerson(3);
+  }
+
+  @Test
+  @DisplayName("findOldestTasksWithoutPerson clamps the limit to the maximum page size")
+  void findOldestTasksWithoutPerson_ClampsLimit_WhenLimitIsTooLarge() {
+    reactiveReadService.findOldestTasksWithoutPerson(1000);
+
+    BDDMockito.verify(taskReactiveRepositoryMock).findOldestTasksWithoutPerson(TaskService.MAX_PAGE_SIZE);
+  }
+
+  @Test
+  @DisplayName("findAllPeople returns people with sum of task durations when successful")
+  void findAllPeople_ReturnsPeopleWithSumTaskDurations_WhenSuccessful() {
+    List<ListPeopleDto> people = reactiveReadService.findAllPeople().collectList().block();
+
+    Assertions.assertThat(people).hasSize(1);
+    Assertions.assertThat(people.get(0).getSum_duration()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("findAllDepartments returns departments with counters when successful")
+  void findAllDepartments_ReturnsDepartmentsWithCounters_WhenSuccessful() {
+    List<ListDepartmentDto> departments = reactiveReadService.findAllDepartments().collectList().block();
+
+    Assertions.assertThat(departments).hasSize(1);
+    Assertions.assertThat(departments.get(0).getCount_people()).isEqualTo(1L);
+  }
+}
@@ -0,0 +1,75 @@
+package com.api.taskmanagement.services;
+
+import java.sql.Date;
+import java.util.concurrent.ExecutorService;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.api.taskmanagement.dtos.responses.TaskEventDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TaskEventServiceTest {
+  private SimpleMeterRegistry meterRegistry;
+
+  private TaskEventService taskEventService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    taskEventService = new TaskEventService(meterRegistry, 2, 0L, Mockito.mock(ExecutorService.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    taskEventService.shutdown();
+  }
+
+  @Test
+  @DisplayName("subscribe registers a subscriber when successful")
+  void subscribe_RegistersSubscriber_WhenSuccessful() {
+    taskEventService.subscribe(null, null);
+
+    Assertions.assertThat(taskEventService.countSubscribers()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(TaskEventService.SUBSCRIBERS_GAUGE).gauge().value()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("publish drops a subscriber whose buffer is full")
+  void publish_DropsSubscriber_WhenBufferIsFull() {
+    taskEventService.subscribe(null, null);
+
+    for (long id = 1; id <= 3; id++) {
+      taskEventService.publish(event(id, 1L, null));
+    }
+
+    Assertions.assertThat(taskEventService.countSubscribers()).isZero();
+    Assertions.assertThat(meterRegistry.get(TaskEventService.DROPPED_COUNTER).counter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("publish only buffers events that match the subscriber filters")
+  void publish_BuffersOnlyMatchingEvents_WhenFiltersAreGiven() {
+    taskEventService.subscribe(1L, 2L);
+
+    for (long id = 1; id <= 5; id++) {
+      taskEventService.publish(event(id, 2L, 2L));
+      taskEventService.publish(event(id, 1L, null));
+    }
+    taskEventService.publish(event(6L, 1L, 2L));
+
+    Assertions.assertThat(taskEventService.countSubscribers()).isEqualTo(1);
+    Assertions.assertThat(meterRegistry.get(TaskEventService.DROPPED_COUNTER).counter().count()).isZero();
+  }
+
+  private TaskEventDto event(Long id, Long department_id, Long person_id) {
+    return new TaskEventDto(TaskEventService.CREATED,
+      new TaskResponseDto(id, "Task " + id, "A Task", Date.valueOf("2022-12-30"), 2, false, department_id, person_id));
+  }
+}
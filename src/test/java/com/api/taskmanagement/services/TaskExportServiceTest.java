@@ -0,0 +1,68 @@
+package com.api.taskmanagement.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.api.taskmanagement.dtos.responses.TaskExportDto;
+import com.api.taskmanagement.repositories.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(SpringExtension.class)
+public class TaskExportServiceTest {
+  @InjectMocks
+  private TaskExportService taskExportService;
+
+  @Mock
+  private TaskRepository taskRepositoryMock;
+
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  @BeforeEach
+  void setUp() {
+    BDDMockito.when(taskRepositoryMock.streamAllForExport())
+      .thenReturn(Stream.of(
+        new TaskExportDto(1L, "Task 1", "A Task", Date.valueOf("2022-12-30"), 2, false, 1L, null),
+        new TaskExportDto(2L, "Task 2", "A Task", Date.valueOf("2022-12-31"), 3, true, 1L, 1L)));
+  }
+
+  @Test
+  @DisplayName("exportTo writes one json line per task when successful")
+  void exportTo_WritesOneJsonLinePerTask_WhenSuccessful() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    taskExportService.exportTo(outputStream);
+
+    String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+    Assertions.assertThat(lines).hasSize(2);
+    Assertions.assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(1L);
+    Assertions.assertThat(objectMapper.readTree(lines[0]).get("deadline").asText()).isEqualTo("2022-12-30");
+    Assertions.assertThat(objectMapper.readTree(lines[1]).get("person_id").asLong()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("exportTo writes nothing when there are no tasks")
+  void exportTo_WritesNothing_WhenThereAreNoTasks() throws IOException {
+    BDDMockito.when(taskRepositoryMock.streamAllForExport())
+      .thenReturn(Stream.empty());
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    taskExportService.exportTo(outputStream);
+
+    Assertions.assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEmpty();
+  }
+}
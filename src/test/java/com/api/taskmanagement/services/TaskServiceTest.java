@@ -1,7 +1,11 @@
 package com.api.taskmanagement.services;
 
+import java.sql.Date;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,9 +16,26 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.api.taskmanagement.dtos.requests.TaskAllocationDto;
 import com.api.taskmanagement.dtos.requests.TaskDto;
+import com.api.taskmanagement.dtos.requests.TaskFilterDto;
+import com.api.taskmanagement.dtos.requests.TaskFinishDto;
+import com.api.taskmanagement.dtos.responses.TaskAllocationResultDto;
+import com.api.taskmanagement.dtos.responses.TaskEventDto;
+import com.api.taskmanagement.dtos.responses.TaskFinishResultDto;
+import com.api.taskmanagement.dtos.responses.TaskPageDto;
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
+import com.api.taskmanagement.dtos.responses.TaskSearchPageDto;
+import com.api.taskmanagement.models.Department;
+import com.api.taskmanagement.models.Person;
 import com.api.taskmanagement.models.Task;
 import com.api.taskmanagement.repositories.*;
 import com.api.taskmanagement.util.*;
@@ -33,14 +54,31 @@ public class TaskServiceTest {
   @Mock
   private DepartmentRepository departmentRepositoryMock;
 
+  @Mock
+  private DepartmentCacheService departmentCacheServiceMock;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisherMock;
+
+  @Mock
+  private TaskSearchRepository taskSearchRepositoryMock;
+
+  @Mock
+  private TaskFinishRepository taskFinishRepositoryMock;
+
   @BeforeEach
   void setUp() {
-    BDDMockito.when(departmentRepositoryMock.findById(ArgumentMatchers.anyLong()))
+    BDDMockito.when(departmentCacheServiceMock.findById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.of(DepartmentCreator.createValidDepartment()));
+    BDDMockito.when(departmentRepositoryMock.getReferenceById(ArgumentMatchers.anyLong()))
+      .thenReturn(DepartmentCreator.createValidDepartment());
     BDDMockito.when(personRepositoryMock.findById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.of(PersonCreator.createValidPerson()));
 
-    BDDMockito.when(taskRepositoryMock.findAll())
+    BDDMockito.when(taskRepositoryMock.findAllLimited(ArgumentMatchers.<Specification<Task>>any(), ArgumentMatchers.any(Pageable.class)))
+      .thenReturn(List.of(TaskCreator.createValidTask()));
+
+    BDDMockito.when(taskRepositoryMock.findAll(ArgumentMatchers.<Specification<Task>>any(), ArgumentMatchers.any(Sort.class)))
       .thenReturn(List.of(TaskCreator.createValidTask()));
 
     BDDMockito.when(taskRepositoryMock.findById(ArgumentMatchers.anyLong()))
@@ -57,7 +95,7 @@ public class TaskServiceTest {
   void listAll_ReturnsListOfTasks_WhenSuccessful() {
     Task task = TaskCreator.createValidTask();
 
-    List<Task> tasks = taskService.findAll();
+    List<TaskResponseDto> tasks = taskService.findAll(new TaskFilterDto(), 0, 20, null);
 
     Assertions.assertThat(tasks).isNotNull().isNotEmpty().hasSize(1);
     Assertions.assertThat(tasks.get(0).getTitle()).isEqualTo(task.getTitle());
@@ -70,51 +108,235 @@ public class TaskServiceTest {
   @Test
   @DisplayName("listAll returns a empty list of tasks when is not found") 
   void listAll_ReturnsListOfTasks_WhenIsNotFound() {
-    BDDMockito.when(taskRepositoryMock.findAll())
+    BDDMockito.when(taskRepositoryMock.findAllLimited(ArgumentMatchers.<Specification<Task>>any(), ArgumentMatchers.any(Pageable.class)))
       .thenReturn(List.of());
 
-      List<Task> tasks = taskService.findAll();
+      List<TaskResponseDto> tasks = taskService.findAll(new TaskFilterDto(), 0, 20, null);
 
     Assertions.assertThat(tasks).isNotNull().isEmpty();
   }
 
   @Test
-  @DisplayName("findThreeOldestTasksWithoutPerson returns list of tasks when successful") 
-  void findThreeOldestTasksWithoutPerson_ReturnsListOfTasks_WhenSuccessful() {
-    List<Task> tasks = taskService.findAll();
+  @DisplayName("listAll sorts by the requested property with id as tie breaker")
+  void listAll_SortsByRequestedProperty_WhenSortIsGiven() {
+    TaskFilterDto filter = new TaskFilterDto(1L, null, false, null, null, "deadline,desc");
+
+    taskService.findAll(filter, 2, 20, null);
+
+    BDDMockito.verify(taskRepositoryMock).findAllLimited(ArgumentMatchers.<Specification<Task>>any(),
+      ArgumentMatchers.eq(PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "deadline").and(Sort.by(Sort.Direction.DESC, "id")))));
+  }
+
+  @Test
+  @DisplayName("listAll returns every matching task when no page or size is given")
+  void listAll_ReturnsEveryTask_WhenPageAndSizeAreNotGiven() {
+    List<TaskResponseDto> tasks = taskService.findAll(new TaskFilterDto(), null, null, null);
+
+    Assertions.assertThat(tasks).hasSize(1);
+    BDDMockito.verify(taskRepositoryMock).findAll(ArgumentMatchers.<Specification<Task>>any(),
+      ArgumentMatchers.eq(Sort.by(Sort.Direction.ASC, "id")));
+    BDDMockito.verify(taskRepositoryMock, Mockito.never()).findAllLimited(ArgumentMatchers.any(), ArgumentMatchers.any());
+  }
+
+  @Test
+  @DisplayName("listAll returns the first page with the default size when only page is given")
+  void listAll_UsesDefaultPageSize_WhenOnlyPageIsGiven() {
+    taskService.findAll(new TaskFilterDto(), 1, null, null);
+
+    BDDMockito.verify(taskRepositoryMock).findAllLimited(ArgumentMatchers.<Specification<Task>>any(),
+      ArgumentMatchers.eq(PageRequest.of(1, TaskService.DEFAULT_PAGE_SIZE, Sort.by(Sort.Direction.ASC, "id"))));
+  }
+
+  @Test
+  @DisplayName("listAll sorts by id alone when id is the requested property")
+  void listAll_SortsByIdOnly_WhenSortIsId() {
+    TaskFilterDto filter = new TaskFilterDto(null, null, null, null, null, "id,desc");
+
+    taskService.findAll(filter, 0, 20, null);
+
+    BDDMockito.verify(taskRepositoryMock).findAllLimited(ArgumentMatchers.<Specification<Task>>any(),
+      ArgumentMatchers.eq(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"))));
+  }
+
+  @Test
+  @DisplayName("listAll caps the page size when it is too large")
+  void listAll_CapsPageSize_WhenSizeIsTooLarge() {
+    taskService.findAll(new TaskFilterDto(), 0, 1000, null);
+
+    BDDMockito.verify(taskRepositoryMock).findAllLimited(ArgumentMatchers.<Specification<Task>>any(),
+      ArgumentMatchers.eq(PageRequest.of(0, TaskService.MAX_PAGE_SIZE, Sort.by(Sort.Direction.ASC, "id"))));
+  }
+
+  @Test
+  @DisplayName("listAll throws error when sort property is not allowed")
+  void listAll_ThrowsError_WhenSortIsInvalid() {
+    TaskFilterDto filter = new TaskFilterDto(null, null, null, null, null, "description");
+
+    Assertions.assertThatThrownBy(() -> taskService.findAll(filter, 0, 20, null))
+      .isInstanceOf(Error.class)
+      .hasMessage("Invalid sort");
+  }
+
+  @Test
+  @DisplayName("search returns the next page number when there are more matches")
+  void search_ReturnsNextPage_WhenThereAreMoreMatches() {
+    BDDMockito.when(taskSearchRepositoryMock.search("invoice", 2, 1L))
+      .thenReturn(List.of(TaskCreator.createValidTaskResponse(), TaskCreator.createValidTaskResponse()));
+
+    TaskSearchPageDto page = taskService.search(" invoice ", 1, 1);
+
+    Assertions.assertThat(page.getContent()).hasSize(1);
+    Assertions.assertThat(page.getNext_page()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("search returns no next page when the page reaches the maximum number of results")
+  void search_ReturnsNoNextPage_WhenPageReachesMaxSearchResults() {
+    BDDMockito.when(taskSearchRepositoryMock.search("invoice", 100, 900L))
+      .thenReturn(Collections.nCopies(100, TaskCreator.createValidTaskResponse()));
+
+    TaskSearchPageDto page = taskService.search("invoice", 9, 100);
+
+    Assertions.assertThat(page.getContent()).hasSize(100);
+    Assertions.assertThat(page.getNext_page()).isNull();
+  }
+
+  @Test
+  @DisplayName("search throws error when the page starts after the maximum number of results")
+  void search_ThrowsError_WhenPageIsBeyondMaxSearchResults() {
+    Assertions.assertThatThrownBy(() -> taskService.search("invoice", 10, 100))
+      .isInstanceOf(Error.class)
+      .hasMessage("Search only returns the first 1000 matches");
+
+    BDDMockito.verifyNoInteractions(taskSearchRepositoryMock);
+  }
+
+  @Test
+  @DisplayName("search throws error when the query is blank")
+  void search_ThrowsError_WhenQueryIsBlank() {
+    Assertions.assertThatThrownBy(() -> taskService.search(" ", 0, 20))
+      .isInstanceOf(Error.class)
+      .hasMessage("Search query is required");
+  }
+
+  @Test
+  @DisplayName("findPage returns page without next cursor when there are no more tasks")
+  void findPage_ReturnsPageWithoutCursor_WhenThereAreNoMoreTasks() {
+    BDDMockito.when(taskRepositoryMock.findFirstPage(ArgumentMatchers.any(Pageable.class)))
+      .thenReturn(List.of(TaskCreator.createValidTask()));
+
+    TaskPageDto page = taskService.findPage(null, 2, null);
+
+    Assertions.assertThat(page.getContent()).isNotNull().hasSize(1);
+    Assertions.assertThat(page.getNext_cursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("findPage returns page with a cursor that resumes after the last task when there are more tasks")
+  void findPage_ReturnsPageWithCursor_WhenThereAreMoreTasks() {
+    Task lastTask = TaskCreator.createValidTask();
+    Task nextTask = TaskCreator.createValidUpdatedTask();
+    nextTask.setId(2L);
+    BDDMockito.when(taskRepositoryMock.findFirstPage(ArgumentMatchers.any(Pageable.class)))
+      .thenReturn(List.of(lastTask, nextTask));
+    BDDMockito.when(taskRepositoryMock.findPageAfter(lastTask.getDeadline(), lastTask.getId(), Pageable.ofSize(2)))
+      .thenReturn(List.of(nextTask));
+
+    TaskPageDto page = taskService.findPage(null, 1, null);
+    TaskPageDto nextPage = taskService.findPage(page.getNext_cursor(), 1, null);
+
+    Assertions.assertThat(page.getContent()).hasSize(1);
+    Assertions.assertThat(page.getContent().get(0).getId()).isEqualTo(lastTask.getId());
+    Assertions.assertThat(page.getNext_cursor()).isNotNull();
+    Assertions.assertThat(nextPage.getContent()).hasSize(1);
+    Assertions.assertThat(nextPage.getContent().get(0).getId()).isEqualTo(nextTask.getId());
+    Assertions.assertThat(nextPage.getNext_cursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("findPage throws error when cursor is invalid")
+  void findPage_ThrowsError_WhenCursorIsInvalid() {
+    Assertions.assertThatThrownBy(() -> taskService.findPage("not-a-cursor", 10, null))
+      .isInstanceOf(Error.class)
+      .hasMessage("Invalid cursor");
+  }
+
+  @Test
+  @DisplayName("findOldestTasksWithoutPerson returns list of tasks when successful") 
+  void findOldestTasksWithoutPerson_ReturnsListOfTasks_WhenSuccessful() {
+    BDDMockito.when(taskRepositoryMock.findOldestTasksWithoutPerson(ArgumentMatchers.any(Pageable.class)))
+      .thenReturn(List.of(TaskCreator.createValidTask()));
+
+    List<TaskResponseDto> tasks = taskService.findOldestTasksWithoutPerson(3, null);
 
     Assertions.assertThat(tasks).isNotNull().isNotEmpty().hasSize(1);
   }
 
   @Test
-  @DisplayName("findThreeOldestTasksWithoutPerson returns a empty list of tasks when not found") 
-  void findThreeOldestTasksWithoutPerson_ReturnsEmptyListOfTasks_WhenNotFound() {
-    BDDMockito.when(taskRepositoryMock.findAll())
+  @DisplayName("findOldestTasksWithoutPerson returns a empty list of tasks when not found") 
+  void findOldestTasksWithoutPerson_ReturnsEmptyListOfTasks_WhenNotFound() {
+    BDDMockito.when(taskRepositoryMock.findOldestTasksWithoutPerson(ArgumentMatchers.any(Pageable.class)))
       .thenReturn(List.of());
 
-    List<Task> tasks = taskService.findAll();
+    List<TaskResponseDto> tasks = taskService.findOldestTasksWithoutPerson(3, null);
 
     Assertions.assertThat(tasks).isNotNull().isEmpty();;
   }
 
+  @Test
+  @DisplayName("findOldestTasksWithoutPerson clamps the limit to the maximum page size")
+  void findOldestTasksWithoutPerson_ClampsLimit_WhenLimitIsTooLarge() {
+    taskService.findOldestTasksWithoutPerson(1000, null);
+
+    BDDMockito.verify(taskRepositoryMock).findOldestTasksWithoutPerson(PageRequest.of(0, TaskService.MAX_PAGE_SIZE));
+  }
+
   @Test
   @DisplayName("findById returns task when successful") 
   void findById_ReturnsTask_WhenSuccessful() {
     Long expectedId = TaskCreator.createValidTask().getId();
 
-    Optional<Task> task = taskService.findById(1L);
+    Optional<TaskResponseDto> task = taskService.findById(1L, null);
 
     Assertions.assertThat(task).isNotNull().isPresent();
     Assertions.assertThat(task.get().getId()).isEqualTo(expectedId);
   }
 
+  @Test
+  @DisplayName("findById returns task with department and person ids only when expand is not requested")
+  void findById_ReturnsTaskWithoutExpandedAssociations_WhenExpandIsNotRequested() {
+    BDDMockito.when(taskRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(TaskCreator.createValidTaskWithPerson()));
+
+    Optional<TaskResponseDto> task = taskService.findById(1L, null);
+
+    Assertions.assertThat(task).isPresent();
+    Assertions.assertThat(task.get().getDepartment_id()).isEqualTo(1L);
+    Assertions.assertThat(task.get().getPerson_id()).isEqualTo(1L);
+    Assertions.assertThat(task.get().getDepartment()).isNull();
+    Assertions.assertThat(task.get().getPerson()).isNull();
+  }
+
+  @Test
+  @DisplayName("findById returns task with department and person when expand is requested")
+  void findById_ReturnsTaskWithExpandedAssociations_WhenExpandIsRequested() {
+    BDDMockito.when(taskRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(TaskCreator.createValidTaskWithPerson()));
+
+    Optional<TaskResponseDto> task = taskService.findById(1L, List.of("department", "person"));
+
+    Assertions.assertThat(task).isPresent();
+    Assertions.assertThat(task.get().getDepartment().getTitle()).isEqualTo(DepartmentCreator.createValidDepartment().getTitle());
+    Assertions.assertThat(task.get().getPerson().getName()).isEqualTo(PersonCreator.createValidPerson().getName());
+  }
+
   @Test
   @DisplayName("findById returns nothing when is not found") 
   void findById_ReturnsNothing_WhenNotFound() {
     BDDMockito.when(taskRepositoryMock.findById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.empty());
 
-    Optional<Task> task = taskService.findById(1L);
+    Optional<TaskResponseDto> task = taskService.findById(1L, null);
 
     Assertions.assertThat(task).isNotNull().isEmpty();
   }
@@ -122,15 +344,66 @@ public class TaskServiceTest {
   @Test
   @DisplayName("create returns task when successful")
   void create_ReturnsTask_WhenSuccessful() {
-    Task task = taskService.create(new TaskDto("", "", null, 1, false, 1L, 1L));
+    TaskResponseDto task = taskService.create(new TaskDto("", "", null, 1, false, 1L, 1L));
 
-    Assertions.assertThat(task).isNotNull().isEqualTo(TaskCreator.createValidTask());
+    Assertions.assertThat(task).isNotNull().isEqualTo(TaskCreator.createValidTaskResponse());
+    BDDMockito.verify(departmentRepositoryMock).incrementTasksCount(1L, 1);
+  }
+
+  @Test
+  @DisplayName("create publishes a created event with the saved task")
+  void create_PublishesCreatedEvent_WhenSuccessful() {
+    taskService.create(new TaskDto("", "", null, 1, false, 1L, 1L));
+
+    BDDMockito.verify(eventPublisherMock).publishEvent(new TaskEventDto(TaskEventService.CREATED, TaskCreator.createValidTaskResponse()));
+  }
+
+  @Test
+  @DisplayName("create throws error when department is not found")
+  void create_ThrowsError_WhenDepartmentIsNotFound() {
+    BDDMockito.when(departmentCacheServiceMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.empty());
+
+    Assertions.assertThatThrownBy(() -> taskService.create(new TaskDto("", "", null, 1, false, 1L, 1L)))
+      .isInstanceOf(Error.class)
+      .hasMessage("Department not found");
+  }
+
+  @Test
+  @DisplayName("createBatch resolves departments once and saves every task when successful")
+  void createBatch_ResolvesDepartmentsOnceAndSavesTasks_WhenSuccessful() {
+    BDDMockito.when(departmentRepositoryMock.findAllById(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(DepartmentCreator.createValidDepartment()));
+    BDDMockito.when(taskRepositoryMock.saveAll(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(TaskCreator.createValidTaskWithDepartment(), TaskCreator.createValidTaskWithDepartment()));
+
+    List<TaskResponseDto> tasks = taskService.createBatch(List.of(
+      new TaskDto("Task 1", "A Task", null, 1, false, 1L, null),
+      new TaskDto("Task 2", "A Task", null, 1, false, 1L, null)));
+
+    Assertions.assertThat(tasks).hasSize(2);
+    Assertions.assertThat(tasks.get(0).getDepartment_id()).isEqualTo(1L);
+    BDDMockito.verify(departmentRepositoryMock, Mockito.times(1)).findAllById(ArgumentMatchers.anyIterable());
+    BDDMockito.verify(departmentRepositoryMock, Mockito.never()).findById(ArgumentMatchers.anyLong());
+  }
+
+  @Test
+  @DisplayName("createBatch throws error when a department is not found")
+  void createBatch_ThrowsError_WhenDepartmentIsNotFound() {
+    BDDMockito.when(departmentRepositoryMock.findAllById(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(DepartmentCreator.createValidDepartment()));
+
+    Assertions.assertThatThrownBy(() -> taskService.createBatch(List.of(
+        new TaskDto("Task 1", "A Task", null, 1, false, 1L, null),
+        new TaskDto("Task 2", "A Task", null, 1, false, 2L, null))))
+      .isInstanceOf(Error.class)
+      .hasMessage("Department not found");
   }
 
   @Test
   @DisplayName("allocatePerson returns task when successful")
   void allocatePerson_ReturnsTask_WhenSuccessful() {
-    Task task = taskService.create(new TaskDto("", "", null, 1, false, 1L, 1L));
+    TaskResponseDto task = taskService.create(new TaskDto("", "", null, 1, false, 1L, 1L));
     
     BDDMockito.when(taskRepositoryMock.save(ArgumentMatchers.any(Task.class)))
       .thenReturn(TaskCreator.createValidTaskWithPerson());
@@ -141,25 +414,237 @@ public class TaskServiceTest {
     BDDMockito.when(taskRepositoryMock.findById(ArgumentMatchers.anyLong()))
       .thenReturn(Optional.of(TaskCreator.createValidTaskWithDepartment()));
 
-    Task updatedTask = taskService.allocatePerson(1L, 1L);
+    TaskResponseDto updatedTask = taskService.allocatePerson(1L, 1L);
 
     Assertions.assertThat(updatedTask.getId()).isNotNull().isEqualTo(task.getId());
-    Assertions.assertThat(updatedTask.getPerson()).isNotNull().isEqualTo(PersonCreator.createValidPerson());
+    Assertions.assertThat(updatedTask.getPerson_id()).isNotNull().isEqualTo(PersonCreator.createValidPerson().getId());
+  }
+
+  @Test
+  @DisplayName("allocatePerson adds the task to the person aggregates when successful")
+  void allocatePerson_AddsTaskToPersonAggregates_WhenSuccessful() {
+    BDDMockito.when(personRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(PersonCreator.createValidPersonWithDepartment()));
+
+    BDDMockito.when(taskRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(TaskCreator.createValidTaskWithDepartment()));
+
+    taskService.allocatePerson(1L, 1L);
+
+    BDDMockito.verify(personRepositoryMock).incrementTaskAggregates(1L, 1, 2);
+  }
+
+  @Test
+  @DisplayName("allocatePerson moves the task between person aggregates when it is reallocated")
+  void allocatePerson_MovesTaskBetweenPersonAggregates_WhenReallocated() {
+    Person otherPerson = Person.builder().name("Rafael").id(2L).department(DepartmentCreator.createValidDepartment()).build();
+    BDDMockito.when(personRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(otherPerson));
+
+    BDDMockito.when(taskRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(TaskCreator.createValidTaskWithPerson()));
+
+    taskService.allocatePerson(1L, 2L);
+
+    BDDMockito.verify(personRepositoryMock).incrementTaskAggregates(1L, -1, -2);
+    BDDMockito.verify(personRepositoryMock).incrementTaskAggregates(2L, 1, 2);
+  }
+
+  @Test
+  @DisplayName("allocatePerson keeps the person aggregates when the task is allocated to the same person")
+  void allocatePerson_KeepsPersonAggregates_WhenAllocatedToSamePerson() {
+    BDDMockito.when(personRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(PersonCreator.createValidPersonWithDepartment()));
+
+    BDDMockito.when(taskRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(TaskCreator.createValidTaskWithPerson()));
+
+    taskService.allocatePerson(1L, 1L);
+
+    BDDMockito.verify(personRepositoryMock, Mockito.never())
+      .incrementTaskAggregates(ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong());
+  }
+
+  @Test
+  @DisplayName("allocateBatch loads tasks and people once and reports each pair when successful")
+  void allocateBatch_LoadsTasksAndPeopleOnce_WhenSuccessful() {
+    Task otherDepartmentTask = Task.builder().title("Task 2").description("A Task").duration(3).finished(false).id(2L)
+      .department(Department.builder().title("Financeiro").id(2L).build()).build();
+    BDDMockito.when(taskRepositoryMock.findAllById(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(TaskCreator.createValidTaskWithDepartment(), otherDepartmentTask));
+    BDDMockito.when(personRepositoryMock.findAllById(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(PersonCreator.createValidPersonWithDepartment()));
+    BDDMockito.when(taskRepositoryMock.saveAll(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(TaskCreator.createValidTaskWithPerson()));
+
+    List<TaskAllocationResultDto> results = taskService.allocateBatch(List.of(
+      new TaskAllocationDto(1L, 1L), new TaskAllocationDto(2L, 1L), new TaskAllocationDto(3L, 1L), new TaskAllocationDto(1L, 9L)));
+
+    Assertions.assertThat(results).extracting(TaskAllocationResultDto::getError)
+      .containsExactly(null, "Must be the same department", "Task not found", "Person not found");
+    Assertions.assertThat(results.get(0).getTask().getPerson_id()).isEqualTo(1L);
+    Assertions.assertThat(results.get(1).getTask()).isNull();
+    BDDMockito.verify(taskRepositoryMock, Mockito.times(1)).findAllById(ArgumentMatchers.anyIterable());
+    BDDMockito.verify(personRepositoryMock, Mockito.times(1)).findAllById(ArgumentMatchers.anyIterable());
+    BDDMockito.verify(taskRepositoryMock, Mockito.never()).findById(ArgumentMatchers.anyLong());
+    BDDMockito.verify(personRepositoryMock).incrementTaskAggregates(1L, 1, 2);
+  }
+
+  @Test
+  @DisplayName("allocateBatch reports the earlier pair as failed when a later pair allocates the same task")
+  void allocateBatch_ReportsEarlierPairAsFailed_WhenTaskIsRepeated() {
+    Person otherPerson = Person.builder().name("Rafael").id(2L).department(DepartmentCreator.createValidDepartment()).build();
+    Task reallocatedTask = TaskCreator.createValidTaskWithDepartment();
+    reallocatedTask.setPerson(otherPerson);
+    BDDMockito.when(taskRepositoryMock.findAllById(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(TaskCreator.createValidTaskWithDepartment()));
+    BDDMockito.when(personRepositoryMock.findAllById(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(PersonCreator.createValidPersonWithDepartment(), otherPerson));
+    BDDMockito.when(taskRepositoryMock.saveAll(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(reallocatedTask));
+
+    List<TaskAllocationResultDto> results = taskService.allocateBatch(List.of(new TaskAllocationDto(1L, 1L), new TaskAllocationDto(1L, 2L)));
+
+    Assertions.assertThat(results).extracting(TaskAllocationResultDto::getError)
+      .containsExactly("Task reallocated by a later pair", null);
+    Assertions.assertThat(results.get(0).getTask()).isNull();
+    Assertions.assertThat(results.get(1).getTask().getPerson_id()).isEqualTo(2L);
+    BDDMockito.verify(personRepositoryMock).incrementTaskAggregates(2L, 1, 2);
+    BDDMockito.verify(personRepositoryMock, Mockito.times(1))
+      .incrementTaskAggregates(ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong());
+  }
+
+  @Test
+  @DisplayName("allocateBatch sums the person aggregates once per person when tasks are reallocated")
+  void allocateBatch_SumsPersonAggregatesPerPerson_WhenReallocated() {
+    Task secondTask = TaskCreator.createValidTaskWithPerson();
+    secondTask.setId(2L);
+    Person otherPerson = Person.builder().name("Rafael").id(2L).department(DepartmentCreator.createValidDepartment()).build();
+    BDDMockito.when(taskRepositoryMock.findAllById(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(TaskCreator.createValidTaskWithPerson(), secondTask));
+    BDDMockito.when(personRepositoryMock.findAllById(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of(otherPerson));
+    BDDMockito.when(taskRepositoryMock.saveAll(ArgumentMatchers.anyIterable()))
+      .thenReturn(List.of());
+
+    taskService.allocateBatch(List.of(new TaskAllocationDto(1L, 2L), new TaskAllocationDto(2L, 2L)));
+
+    BDDMockito.verify(personRepositoryMock).incrementTaskAggregates(1L, -2, -4);
+    BDDMockito.verify(personRepositoryMock).incrementTaskAggregates(2L, 2, 4);
+    BDDMockito.verify(personRepositoryMock, Mockito.times(2))
+      .incrementTaskAggregates(ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong());
+  }
+
+  @Test
+  @DisplayName("claim allocates the oldest pending task of the person department when successful")
+  void claim_AllocatesOldestPendingTask_WhenSuccessful() {
+    BDDMockito.when(personRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(PersonCreator.createValidPersonWithDepartment()));
+
+    BDDMockito.when(taskRepositoryMock.lockOldestTasksWithoutPerson(ArgumentMatchers.anyLong(), ArgumentMatchers.any(Pageable.class)))
+      .thenReturn(List.of(TaskCreator.createValidTaskWithDepartment()));
+
+    BDDMockito.when(taskRepositoryMock.save(ArgumentMatchers.any(Task.class)))
+      .thenAnswer(invocation -> invocation.getArgument(0));
+
+    Optional<TaskResponseDto> task = taskService.claim(1L);
+
+    Assertions.assertThat(task).isPresent();
+    Assertions.assertThat(task.get().getPerson_id()).isEqualTo(PersonCreator.createValidPersonWithDepartment().getId());
+    BDDMockito.verify(taskRepositoryMock).lockOldestTasksWithoutPerson(1L, PageRequest.of(0, 1));
+    BDDMockito.verify(personRepositoryMock).incrementTaskAggregates(1L, 1, 2);
+  }
+
+  @Test
+  @DisplayName("claim returns empty when there is no pending task")
+  void claim_ReturnsEmpty_WhenThereIsNoPendingTask() {
+    BDDMockito.when(personRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(PersonCreator.createValidPersonWithDepartment()));
+
+    BDDMockito.when(taskRepositoryMock.lockOldestTasksWithoutPerson(ArgumentMatchers.anyLong(), ArgumentMatchers.any(Pageable.class)))
+      .thenReturn(List.of());
+
+    Assertions.assertThat(taskService.claim(1L)).isEmpty();
+    BDDMockito.verify(taskRepositoryMock, Mockito.never()).save(ArgumentMatchers.any(Task.class));
+  }
+
+  @Test
+  @DisplayName("claim throws error when person is not found")
+  void claim_ThrowsError_WhenPersonIsNotFound() {
+    BDDMockito.when(personRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.empty());
+
+    Assertions.assertThatThrownBy(() -> taskService.claim(1L))
+      .isInstanceOf(Error.class)
+      .hasMessage("Person not found");
   }
 
   @Test
   @DisplayName("finishTask returns task when successful")
   void finishTask_ReturnsTask_WhenSuccessful() {
-    Task task = taskService.create(new TaskDto("", "", null, 1, false, 1L, 1L));
+    TaskResponseDto task = taskService.create(new TaskDto("", "", null, 1, false, 1L, 1L));
     
     BDDMockito.when(taskRepositoryMock.save(ArgumentMatchers.any(Task.class)))
       .thenReturn(TaskCreator.createValidUpdatedTask());
 
-      Task updatedTask = taskService.finishTask(1L);
+    TaskResponseDto updatedTask = taskService.finishTask(1L);
 
-    Assertions.assertThat(updatedTask).isNotNull().isEqualTo(TaskCreator.createValidUpdatedTask());
+    Assertions.assertThat(updatedTask).isNotNull().isEqualTo(TaskCreator.createValidUpdatedTaskResponse());
     Assertions.assertThat(updatedTask.getId()).isNotNull().isEqualTo(task.getId());
     Assertions.assertThat(updatedTask.getFinished()).isNotNull().isEqualTo(true);
+    BDDMockito.verify(eventPublisherMock).publishEvent(new TaskEventDto(TaskEventService.FINISHED, updatedTask));
+  }
+
+
+  @Test
+  @DisplayName("finishAll finishes the given ids with a single update when successful")
+  void finishAll_FinishesIdsWithSingleUpdate_WhenSuccessful() {
+    BDDMockito.when(taskFinishRepositoryMock.finishByIds(ArgumentMatchers.anyCollection()))
+      .thenReturn(2);
+
+    TaskFinishResultDto result = taskService.finishAll(new TaskFinishDto(List.of(1L, 2L, 2L), null, null, null));
+
+    Assertions.assertThat(result.getFinished()).isEqualTo(2);
+    BDDMockito.verify(taskFinishRepositoryMock).finishByIds(Set.of(1L, 2L));
+    BDDMockito.verify(taskRepositoryMock, Mockito.never()).findById(ArgumentMatchers.anyLong());
+    BDDMockito.verify(eventPublisherMock, Mockito.never()).publishEvent(ArgumentMatchers.any(TaskEventDto.class));
+  }
+
+  @Test
+  @DisplayName("finishAll finishes the tasks matching the filter when successful")
+  void finishAll_FinishesMatchingTasks_WhenSuccessful() {
+    Date deadline = Date.valueOf("2023-01-01");
+    BDDMockito.when(taskFinishRepositoryMock.finishMatching(1L, null, deadline))
+      .thenReturn(5);
+
+    TaskFinishResultDto result = taskService.finishAll(new TaskFinishDto(null, 1L, null, deadline));
+
+    Assertions.assertThat(result.getFinished()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("finishAll throws error when neither ids nor filters are given")
+  void finishAll_ThrowsError_WhenNoFilterIsGiven() {
+    Assertions.assertThatThrownBy(() -> taskService.finishAll(new TaskFinishDto(List.of(), null, null, null)))
+      .isInstanceOf(Error.class)
+      .hasMessage("At least one filter is required");
+  }
+
+  @Test
+  @DisplayName("finishAll throws error when a null id is given")
+  void finishAll_ThrowsError_WhenIdIsNull() {
+    Assertions.assertThatThrownBy(() -> taskService.finishAll(new TaskFinishDto(Arrays.asList((Long) null), null, null, null)))
+      .isInstanceOf(Error.class)
+      .hasMessage("Task ids must not be null");
+    BDDMockito.verifyNoInteractions(taskFinishRepositoryMock);
+  }
+
+  @Test
+  @DisplayName("finishAll throws error when ids and filters are given together")
+  void finishAll_ThrowsError_WhenIdsAndFiltersAreGiven() {
+    Assertions.assertThatThrownBy(() -> taskService.finishAll(new TaskFinishDto(List.of(1L), 1L, null, null)))
+      .isInstanceOf(Error.class)
+      .hasMessage("Use either ids or filters");
   }
 
   @Test
@@ -167,4 +652,15 @@ public class TaskServiceTest {
   void delete_RemovesTask_WhenSuccessful() {
     Assertions.assertThatCode(() -> taskService.delete(1L)).doesNotThrowAnyException();
   }
+
+  @Test
+  @DisplayName("delete decrements the department task counter when the task has a department")
+  void delete_DecrementsDepartmentTaskCounter_WhenTaskHasDepartment() {
+    BDDMockito.when(taskRepositoryMock.findById(ArgumentMatchers.anyLong()))
+      .thenReturn(Optional.of(TaskCreator.createValidTaskWithDepartment()));
+
+    taskService.delete(1L);
+
+    BDDMockito.verify(departmentRepositoryMock).incrementTasksCount(1L, -1);
+  }
 }
@@ -1,5 +1,6 @@
 package com.api.taskmanagement.util;
 
+import com.api.taskmanagement.dtos.responses.DepartmentResponseDto;
 import com.api.taskmanagement.models.Department;
 
 public class DepartmentCreator {
@@ -8,6 +9,10 @@ public class DepartmentCreator {
     return Department.builder().title("RH").build();
   }
 
+  public static Department createOtherDepartmentToBeSaved() {
+    return Department.builder().title("Marketing").build();
+  }
+
   public static Department createValidDepartment() {
     return Department.builder().title("RH").id(1L).build();
   }
@@ -15,4 +20,12 @@ public class DepartmentCreator {
   public static Department createValidUpdatedDepartment() {
     return Department.builder().title("Marketing").id(1L).build();
   }
+
+  public static DepartmentResponseDto createValidDepartmentResponse() {
+    return new DepartmentResponseDto(1L, "RH", 0L, 0L);
+  }
+
+  public static DepartmentResponseDto createValidUpdatedDepartmentResponse() {
+    return new DepartmentResponseDto(1L, "Marketing", 0L, 0L);
+  }
 }
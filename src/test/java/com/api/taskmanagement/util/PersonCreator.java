@@ -1,5 +1,6 @@
 package com.api.taskmanagement.util;
 
+import com.api.taskmanagement.dtos.responses.PersonResponseDto;
 import com.api.taskmanagement.models.Person;
 
 public class PersonCreator {
@@ -19,4 +20,12 @@ public class PersonCreator {
   public static Person createValidUpdatedPerson() {
     return Person.builder().name("Rafael").id(1L).build();
   }
+
+  public static PersonResponseDto createValidPersonResponse() {
+    return new PersonResponseDto(1L, "Alan", null);
+  }
+
+  public static PersonResponseDto createValidUpdatedPersonResponse() {
+    return new PersonResponseDto(1L, "Rafael", null);
+  }
 }
@@ -2,6 +2,7 @@ package com.api.taskmanagement.util;
 
 import java.sql.Date;
 
+import com.api.taskmanagement.dtos.responses.TaskResponseDto;
 import com.api.taskmanagement.models.Task;
 
 public class TaskCreator {
@@ -49,6 +50,10 @@ public class TaskCreator {
             .id(1L).build();
   }
 
+  public static TaskResponseDto createValidTaskResponse() {
+    return new TaskResponseDto(1L, "Task 1", "A Task", Date.valueOf("2022-12-30"), 2, false, null, null);
+  }
+
   public static Task createValidUpdatedTask() {
     return Task.builder()
             .title("Task 2")
@@ -58,4 +63,12 @@ public class TaskCreator {
             .finished(true)
             .id(1L).build();
   }
+
+  public static TaskResponseDto createValidTaskResponseWithPerson() {
+    return new TaskResponseDto(1L, "Task 1", "A Task", Date.valueOf("2022-12-30"), 2, false, 1L, 1L);
+  }
+
+  public static TaskResponseDto createValidUpdatedTaskResponse() {
+    return new TaskResponseDto(1L, "Task 2", "A Task", Date.valueOf("2022-12-30"), 2, true, null, null);
+  }
 }
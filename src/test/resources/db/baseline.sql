@@ -0,0 +1,21 @@
+-- Schema that ddl-auto=update created before the Flyway migrations existed, with some data to upgrade
+CREATE TABLE departments (id BIGINT NOT NULL, title VARCHAR(255) NOT NULL, PRIMARY KEY (id));
+CREATE TABLE people (id BIGINT NOT NULL, name VARCHAR(255) NOT NULL, department_id BIGINT, PRIMARY KEY (id));
+CREATE TABLE tasks (id BIGINT NOT NULL, deadline DATE NOT NULL, description VARCHAR(255) NOT NULL, duration INTEGER NOT NULL,
+  finished BOOLEAN NOT NULL, title VARCHAR(255) NOT NULL, department_id BIGINT, person_id BIGINT, PRIMARY KEY (id));
+CREATE SEQUENCE departments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE people_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE IF EXISTS people ADD CONSTRAINT FKo9vtpxm7qp53057f0nlvwwo0a FOREIGN KEY (department_id) REFERENCES departments;
+ALTER TABLE IF EXISTS tasks ADD CONSTRAINT FKq0ulb2lfkghkpoakoyd4es4jp FOREIGN KEY (department_id) REFERENCES departments;
+ALTER TABLE IF EXISTS tasks ADD CONSTRAINT FKsjwe7maqdbwd2xmfjgxttrvyy FOREIGN KEY (person_id) REFERENCES people;
+
+INSERT INTO departments (id, title) VALUES (1, 'Financeiro'), (2, 'Comercial');
+INSERT INTO people (id, name, department_id) VALUES (1, 'Alan', 1), (2, 'Rafael', 1), (3, 'Bruno', 2);
+INSERT INTO tasks (id, deadline, description, duration, finished, title, department_id, person_id) VALUES
+  (1, '2022-12-30', 'Update the invoice template', 2, false, 'Review', 1, 1),
+  (2, '2022-12-31', 'A Task', 5, true, 'Invoice export', 1, 1),
+  (3, '2023-01-05', 'A Task', 3, false, 'Deploy', 2, NULL);
+SELECT setval('departments_seq', 51);
+SELECT setval('people_seq', 51);
+SELECT setval('tasks_seq', 51);